@@ -0,0 +1,72 @@
+package io.quarkiverse.cucumber;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.spi.CDI;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.cucumber.benchmarks.BenchmarkSteps;
+
+/**
+ * Cost of handing a glue instance to Cucumber and invoking it, as for every step.
+ * <p>
+ * The baseline resolves the bean through {@link CDI#current()} on every call, swapping the thread context class
+ * loader around the lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class CdiObjectFactoryBenchmark {
+
+    private ScenarioContext context;
+    private CucumberQuarkusTest.CdiObjectFactory objectFactory;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        context = ScenarioContext.current();
+        context.activate(UUID.randomUUID());
+        objectFactory = new CucumberQuarkusTest.CdiObjectFactory();
+        objectFactory.addClass(BenchmarkSteps.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        context.destroy();
+        context.deactivate();
+    }
+
+    @Benchmark
+    public int baselineCdiLookup() {
+        var old = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(BenchmarkSteps.class.getClassLoader());
+            Instance<BenchmarkSteps> selected = CDI.current().select(BenchmarkSteps.class);
+            if (selected.isUnsatisfied()) {
+                throw new IllegalArgumentException(BenchmarkSteps.class.getName() + " is no CDI bean.");
+            }
+            return selected.get().getCounter();
+        } finally {
+            Thread.currentThread().setContextClassLoader(old);
+        }
+    }
+
+    @Benchmark
+    public int getInstance() {
+        return objectFactory.getInstance(BenchmarkSteps.class).getCounter();
+    }
+}
@@ -0,0 +1,137 @@
+package io.quarkiverse.cucumber;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.cucumber.core.backend.DefaultObjectFactory;
+import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.feature.FeatureParser;
+import io.cucumber.core.feature.GluePath;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.options.RuntimeOptionsBuilder;
+import io.cucumber.core.runner.Runner;
+import io.cucumber.core.runtime.CucumberExecutionContext;
+import io.cucumber.core.runtime.ExitStatus;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import io.cucumber.java.JavaBackendProviderService;
+import io.quarkiverse.cucumber.benchmarks.BenchmarkSteps;
+
+/**
+ * End to end cost of running a scenario of a synthetic feature.
+ * <p>
+ * The baseline runs the same scenarios with plain Cucumber: glue instances are created by Cucumber's default
+ * object factory and neither the scenario context nor the scenario events are involved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class RunPickleBenchmark {
+
+    private static final int SCENARIOS = 10;
+
+    @Param({ "5", "50" })
+    public int steps;
+
+    private CucumberExecutionContext extension;
+    private CucumberExecutionContext baseline;
+    private ScenarioEventDispatcher dispatcher;
+    private List<Pickle> pickles;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        RuntimeOptions runtimeOptions = new RuntimeOptionsBuilder()
+                .addGlue(GluePath.parse(BenchmarkSteps.class.getPackageName()))
+                .build();
+
+        EventBus extensionBus = new TimeServiceEventBus(Clock.systemUTC(), UUID::randomUUID);
+        extension = CucumberQuarkusTest.cucumberExecutionContext(extensionBus, runtimeOptions,
+                new ExitStatus(runtimeOptions), null, false, null);
+        dispatcher = new ScenarioEventDispatcher(false);
+
+        EventBus baselineBus = new TimeServiceEventBus(Clock.systemUTC(), UUID::randomUUID);
+        ObjectFactory objectFactory = new DefaultObjectFactory();
+        Supplier<ClassLoader> classLoader = () -> Thread.currentThread().getContextClassLoader();
+        Runner runner = new Runner(baselineBus,
+                Collections.singleton(new JavaBackendProviderService().create(objectFactory, objectFactory, classLoader)),
+                objectFactory, runtimeOptions);
+        baseline = new CucumberExecutionContext(baselineBus, new ExitStatus(runtimeOptions), () -> runner);
+
+        Feature feature = new FeatureParser(extensionBus::generateId)
+                .parseResource(new PickleIndex.SourceResource(URI.create("classpath:benchmark/synthetic.feature"),
+                        syntheticFeature().getBytes(StandardCharsets.UTF_8)))
+                .orElseThrow();
+        pickles = feature.getPickles();
+
+        for (CucumberExecutionContext context : List.of(extension, baseline)) {
+            context.startTestRun();
+            context.runBeforeAllHooks();
+            context.beforeFeature(feature);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (CucumberExecutionContext context : List.of(extension, baseline)) {
+            context.runAfterAllHooks();
+            context.finishTestRun();
+        }
+    }
+
+    @Benchmark
+    public void baselineRunPickle() {
+        Pickle pickle = nextPickle();
+        baseline.runTestCase(runner -> runner.runPickle(pickle));
+    }
+
+    @Benchmark
+    public PickleResult runPickle() {
+        PickleResult result = dispatcher.runPickle(extension, nextPickle());
+        if (result.failedStep() != null) {
+            throw new IllegalStateException("Synthetic scenario failed", result.failedStep().getResult().getError());
+        }
+        return result;
+    }
+
+    private Pickle nextPickle() {
+        Pickle pickle = pickles.get(next);
+        next = (next + 1) % pickles.size();
+        return pickle;
+    }
+
+    private String syntheticFeature() {
+        StringBuilder feature = new StringBuilder("Feature: Synthetic\n");
+        for (int scenario = 1; scenario <= SCENARIOS; scenario++) {
+            feature.append("\n  Scenario: synthetic scenario ").append(scenario).append('\n');
+            feature.append("    Given the counter starts at ").append(scenario).append('\n');
+            for (int step = 0; step < steps - 2; step++) {
+                feature.append("    When the counter is incremented\n");
+            }
+            feature.append("    Then the counter is ").append(scenario + steps - 2).append('\n');
+        }
+        return feature.toString();
+    }
+}
@@ -0,0 +1,121 @@
+package io.quarkiverse.cucumber;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.cucumber.benchmarks.BenchmarkSteps;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.impl.CreationalContextImpl;
+
+/**
+ * Cost of looking up, creating and destroying {@link ScenarioScope} instances.
+ * <p>
+ * The baselines are a plain concurrent map lookup and creating and destroying the bean without any context.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScenarioContextBenchmark {
+
+    @State(Scope.Thread)
+    public static class Beans {
+
+        ScenarioContext context;
+        InjectableBean<BenchmarkSteps> bean;
+        // cheaper than random ids, so only the context is measured
+        String idPrefix = UUID.randomUUID() + "-";
+        long nextId;
+
+        @Setup
+        public void setUp() {
+            context = ScenarioContext.current();
+            bean = Arc.container().instance(BenchmarkSteps.class).getBean();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ActiveScenario {
+
+        ScenarioContext context;
+        InjectableBean<BenchmarkSteps> bean;
+        CreationalContextImpl<BenchmarkSteps> creationalContext;
+        ConcurrentMap<Object, Object> baseline = new ConcurrentHashMap<>();
+
+        @Setup(Level.Iteration)
+        public void activate(Beans beans) {
+            context = beans.context;
+            bean = beans.bean;
+            creationalContext = new CreationalContextImpl<>(bean);
+            context.activate(UUID.randomUUID());
+            baseline.put(bean, context.get(bean, creationalContext));
+        }
+
+        @TearDown(Level.Iteration)
+        public void deactivate() {
+            context.destroy();
+            context.deactivate();
+        }
+    }
+
+    @Benchmark
+    public Object baselineMapLookup(ActiveScenario scenario) {
+        return scenario.baseline.get(scenario.bean);
+    }
+
+    @Benchmark
+    public Object getExisting(ActiveScenario scenario) {
+        return scenario.context.get(scenario.bean, scenario.creationalContext);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object getExistingConcurrently(ActiveScenario scenario) {
+        return scenario.context.get(scenario.bean, scenario.creationalContext);
+    }
+
+    @Benchmark
+    public Object baselineCreateAndDestroy(Beans beans) {
+        CreationalContextImpl<BenchmarkSteps> creationalContext = new CreationalContextImpl<>(beans.bean);
+        BenchmarkSteps instance = beans.bean.create(creationalContext);
+        beans.bean.destroy(instance, creationalContext);
+        return instance;
+    }
+
+    @Benchmark
+    public Object createAndDestroy(Beans beans) {
+        return scenario(beans);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object createAndDestroyConcurrently(Beans beans) {
+        return scenario(beans);
+    }
+
+    private static Object scenario(Beans beans) {
+        beans.context.activate(beans.idPrefix + beans.nextId++);
+        try {
+            return beans.context.get(beans.bean, new CreationalContextImpl<>(beans.bean));
+        } finally {
+            beans.context.destroy();
+            beans.context.deactivate();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.quarkiverse.cucumber;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.cucumber.plugin.event.Location;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestStep;
+import io.quarkus.arc.Arc;
+
+/**
+ * Cost of firing the {@link BeforeScenario} and {@link AfterScenario} events to the observers of
+ * {@link io.quarkiverse.cucumber.benchmarks.ScenarioObservers}.
+ * <p>
+ * The baseline fires an event nobody observes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class ScenarioEventBenchmark {
+
+    private TestCase testCase;
+
+    @Setup
+    public void setUp() {
+        testCase = new SyntheticTestCase();
+    }
+
+    @Benchmark
+    public void baselineUnobservedEvent() {
+        Arc.container().beanManager().getEvent()
+                .select(UnobservedEvent.class)
+                .fire(new UnobservedEvent(testCase));
+    }
+
+    @Benchmark
+    public void fireBeforeScenario() {
+        ScenarioEventDispatcher.fireScenarioEvent(new ScenarioEvent(testCase), BeforeScenario.Literal.INSTANCE);
+    }
+
+    @Benchmark
+    public void fireAfterScenario() {
+        ScenarioEventDispatcher.fireScenarioEvent(new ScenarioEvent(testCase, Status.PASSED),
+                AfterScenario.Literal.INSTANCE);
+    }
+
+    public record UnobservedEvent(TestCase testCase) {
+    }
+
+    private static final class SyntheticTestCase implements TestCase {
+
+        private final UUID id = UUID.randomUUID();
+
+        @Override
+        public Integer getLine() {
+            return 3;
+        }
+
+        @Override
+        public Location getLocation() {
+            return new Location(3, 3);
+        }
+
+        @Override
+        public String getKeyword() {
+            return "Scenario";
+        }
+
+        @Override
+        public String getName() {
+            return "synthetic scenario";
+        }
+
+        @Override
+        public String getScenarioDesignation() {
+            return "synthetic.feature:3 # synthetic scenario";
+        }
+
+        @Override
+        public List<String> getTags() {
+            return List.of("@benchmark");
+        }
+
+        @Override
+        public List<TestStep> getTestSteps() {
+            return List.of();
+        }
+
+        @Override
+        public URI getUri() {
+            return URI.create("classpath:synthetic.feature");
+        }
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+    }
+}
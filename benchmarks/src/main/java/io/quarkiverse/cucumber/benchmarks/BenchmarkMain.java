@@ -0,0 +1,32 @@
+package io.quarkiverse.cucumber.benchmarks;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.runtime.QuarkusApplication;
+import io.quarkus.runtime.annotations.QuarkusMain;
+
+/**
+ * Runs the JMH benchmarks inside the started Quarkus application.
+ * <p>
+ * Accepts the usual JMH command line options, e.g. {@code java -jar target/quarkus-app/quarkus-run.jar ScenarioContext}.
+ * The benchmarks need the CDI container of this application, so they are never forked into another JVM.
+ * Without forks, the benchmarks of a run share one JIT profile and skew each other, so their results only
+ * roughly indicate where the overhead lies and are not comparable across runs. Selecting a single benchmark
+ * per run limits the skew.
+ */
+@QuarkusMain
+public class BenchmarkMain implements QuarkusApplication {
+
+    @Override
+    public int run(String... args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .forks(0)
+                .build();
+        new Runner(options).run();
+        return 0;
+    }
+}
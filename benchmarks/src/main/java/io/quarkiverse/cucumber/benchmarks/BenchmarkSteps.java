@@ -0,0 +1,34 @@
+package io.quarkiverse.cucumber.benchmarks;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+/**
+ * Glue of the synthetic features, a {@link io.quarkiverse.cucumber.ScenarioScope} bean like any step class.
+ */
+public class BenchmarkSteps {
+
+    private int counter;
+
+    @Given("the counter starts at {int}")
+    public void start(int value) {
+        counter = value;
+    }
+
+    @When("the counter is incremented")
+    public void increment() {
+        counter++;
+    }
+
+    @Then("the counter is {int}")
+    public void verify(int expected) {
+        if (counter != expected) {
+            throw new AssertionError("expected " + expected + " but was " + counter);
+        }
+    }
+
+    public int getCounter() {
+        return counter;
+    }
+}
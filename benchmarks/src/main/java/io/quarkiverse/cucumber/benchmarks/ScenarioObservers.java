@@ -0,0 +1,36 @@
+package io.quarkiverse.cucumber.benchmarks;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import io.quarkiverse.cucumber.AfterScenario;
+import io.quarkiverse.cucumber.BeforeScenario;
+import io.quarkiverse.cucumber.ScenarioEvent;
+
+/**
+ * Typical scenario lifecycle observers, counting the events they receive.
+ */
+@ApplicationScoped
+public class ScenarioObservers {
+
+    private final LongAdder before = new LongAdder();
+    private final LongAdder after = new LongAdder();
+
+    void onBeforeScenario(@Observes @BeforeScenario ScenarioEvent event) {
+        before.increment();
+    }
+
+    void onAfterScenario(@Observes @AfterScenario ScenarioEvent event) {
+        after.increment();
+    }
+
+    public long getBefore() {
+        return before.sum();
+    }
+
+    public long getAfter() {
+        return after.sum();
+    }
+}
@@ -1,34 +1,120 @@
 package io.quarkiverse.cucumber.deployment;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import jakarta.inject.Singleton;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.logging.Logger;
 
+import io.cucumber.core.feature.FeatureIdentifier;
+import io.cucumber.core.resource.ClasspathSupport;
+import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.AfterStep;
+import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.BeforeStep;
+import io.cucumber.java.DataTableType;
+import io.cucumber.java.DefaultDataTableCellTransformer;
+import io.cucumber.java.DefaultDataTableEntryTransformer;
+import io.cucumber.java.DefaultParameterTransformer;
+import io.cucumber.java.DocStringType;
+import io.cucumber.java.ParameterType;
 import io.cucumber.java.StepDefinitionAnnotation;
 import io.cucumber.java.StepDefinitionAnnotations;
 import io.quarkiverse.cucumber.AfterScenario;
+import io.quarkiverse.cucumber.BackgroundSnapshot;
 import io.quarkiverse.cucumber.BeforeScenario;
+import io.quarkiverse.cucumber.CucumberBuildTimeConfig;
+import io.quarkiverse.cucumber.CucumberBuildTimeConfig.Severity;
+import io.quarkiverse.cucumber.CucumberBuildTimeConfig.StepValidationConfig;
+import io.quarkiverse.cucumber.CucumberOptions;
 import io.quarkiverse.cucumber.CucumberQuarkusTest;
+import io.quarkiverse.cucumber.CucumberRecorder;
+import io.quarkiverse.cucumber.FeatureContext;
+import io.quarkiverse.cucumber.FeatureScope;
+import io.quarkiverse.cucumber.GlueMethod;
+import io.quarkiverse.cucumber.PickleIndex;
+import io.quarkiverse.cucumber.RunContext;
+import io.quarkiverse.cucumber.RunScope;
 import io.quarkiverse.cucumber.ScenarioContext;
 import io.quarkiverse.cucumber.ScenarioScope;
+import io.quarkiverse.cucumber.TestImpactIndex;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.ContextRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.ContextRegistrationPhaseBuildItem.ContextConfiguratorBuildItem;
 import io.quarkus.arc.deployment.CustomScopeBuildItem;
 import io.quarkus.arc.deployment.QualifierRegistrarBuildItem;
+import io.quarkus.arc.deployment.SynthesisFinishedBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
+import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.arc.processor.QualifierRegistrar;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 
 class CucumberProcessor {
 
+    private static final Logger LOG = Logger.getLogger(CucumberProcessor.class);
+
     private static final String FEATURE = "cucumber";
 
+    private static final List<DotName> HOOK_ANNOTATIONS = Stream.of(Before.class, BeforeAll.class, After.class,
+            AfterAll.class, BeforeStep.class, AfterStep.class, ParameterType.class, DataTableType.class,
+            DefaultParameterTransformer.class, DefaultDataTableEntryTransformer.class,
+            DefaultDataTableCellTransformer.class, DocStringType.class)
+            .map(annotation -> DotName.createSimple(annotation.getName()))
+            .toList();
+
+    private static final Set<DotName> TAGGED_HOOK_ANNOTATIONS = Stream.of(Before.class, After.class,
+            BeforeStep.class, AfterStep.class)
+            .map(annotation -> DotName.createSimple(annotation.getName()))
+            .collect(Collectors.toSet());
+
+    // package private, it is only ever looked up by the runtime
+    private static final String FEATURE_BACKGROUNDS = "io.quarkiverse.cucumber.FeatureBackgrounds";
+    // FeatureBackgrounds.TAG
+    private static final String BACKGROUND_ONCE = "@background-once";
+
+    private static final DotName PARAMETER_TYPE = DotName.createSimple(ParameterType.class.getName());
+    private static final DotName CUCUMBER_QUARKUS_TEST = DotName.createSimple(CucumberQuarkusTest.class.getName());
+    private static final DotName CUCUMBER_OPTIONS = DotName.createSimple(CucumberOptions.class.getName());
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FEATURE);
@@ -61,9 +147,13 @@ class CucumberProcessor {
 
     /**
      * Anything with a step defining annotation is automatically a bean
+     * <p>
+     * The test classes themselves are beans too, but they live outside any scenario,
+     * so they are singletons unless they declare a scope themselves
      */
     @BuildStep
-    AdditionalBeanBuildItem beanDefiningAnnotation(CombinedIndexBuildItem indexBuildItem) {
+    void beanDefiningAnnotation(CombinedIndexBuildItem indexBuildItem,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
         Set<String> stepClasses = new HashSet<>();
         for (var an : Arrays.asList(DotName.createSimple(StepDefinitionAnnotation.class.getName()),
                 DotName.createSimple(StepDefinitionAnnotations.class.getName()))) {
@@ -73,15 +163,516 @@ class CucumberProcessor {
                 }
             }
         }
+        Set<String> testClasses = new HashSet<>();
         for (var i : indexBuildItem.getIndex()
-                .getAllKnownSubclasses(DotName.createSimple(CucumberQuarkusTest.class.getName()))) {
-            stepClasses.add(i.name().toString());
+                .getAllKnownSubclasses(CUCUMBER_QUARKUS_TEST)) {
+            testClasses.add(i.name().toString());
         }
-        return AdditionalBeanBuildItem.builder()
+        stepClasses.removeAll(testClasses);
+        additionalBeans.produce(AdditionalBeanBuildItem.builder()
                 .addBeanClasses(stepClasses)
                 .setDefaultScope(DotName.createSimple(ScenarioScope.class.getName()))
                 .setUnremovable()
-                .build();
+                .build());
+        additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                .addBeanClasses(testClasses)
+                .setDefaultScope(DotName.createSimple(Singleton.class.getName()))
+                .setUnremovable()
+                .build());
+    }
+
+    /**
+     * The Backgrounds of a feature tagged {@code @background-once} are held by a feature scoped bean of the
+     * extension, and every {@link BackgroundSnapshot} bean takes part without being injected anywhere
+     * <p>
+     * Neither is registered if no feature file is tagged, the runtime then leaves the Backgrounds alone
+     */
+    @BuildStep
+    void backgroundSnapshots(ApplicationArchivesBuildItem applicationArchives,
+            Optional<FeatureFilesBuildItem> featureFiles, BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+        AtomicBoolean tagged = new AtomicBoolean();
+        if (featureFiles.isPresent()) {
+            tagged.set(featureFiles.get().getSources().stream().anyMatch(source -> isTagged(source, BACKGROUND_ONCE)));
+        } else {
+            // the feature files are not read for anything else
+            forEachFeatureFile(applicationArchives, (resourceName, source) -> {
+                if (isTagged(source, BACKGROUND_ONCE)) {
+                    tagged.set(true);
+                }
+            });
+        }
+        if (!tagged.get()) {
+            return;
+        }
+        additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                .addBeanClass(FEATURE_BACKGROUNDS)
+                .setUnremovable()
+                .build());
+        unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(BackgroundSnapshot.class));
+    }
+
+    /**
+     * Collects every glue method in the index, so the tests can register the glue without scanning
+     * the glue packages
+     * <p>
+     * The same rules as in cucumber-java apply: only public methods of public, concrete, top level or
+     * static nested classes are glue, and glue classes may not inherit glue methods
+     */
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void glueRegistry(CucumberBuildTimeConfig config, CombinedIndexBuildItem indexBuildItem, CucumberRecorder recorder) {
+        if (!config.glueRegistry().enabled()) {
+            return;
+        }
+        IndexView index = indexBuildItem.getIndex();
+        Set<GlueMethod> glueMethods = new HashSet<>();
+        for (var annotation : HOOK_ANNOTATIONS) {
+            for (var annotationInst : index.getAnnotations(annotation)) {
+                addGlueMethod(index, glueMethods, annotationInst.target(), annotation);
+            }
+        }
+        for (var stepDefinition : index.getAnnotations(DotName.createSimple(StepDefinitionAnnotation.class.getName()))) {
+            DotName annotation = stepDefinition.target().asClass().name();
+            for (var annotationInst : index.getAnnotations(annotation)) {
+                addGlueMethod(index, glueMethods, annotationInst.target(), annotation);
+            }
+        }
+        for (var stepDefinitions : index.getAnnotations(DotName.createSimple(StepDefinitionAnnotations.class.getName()))) {
+            for (var annotationInst : index.getAnnotations(stepDefinitions.target().asClass().name())) {
+                // a repeated step annotation is registered by the annotation it repeats
+                for (var repeated : annotationInst.value().asNestedArray()) {
+                    addGlueMethod(index, glueMethods, annotationInst.target(), repeated.name());
+                }
+            }
+        }
+        List<GlueMethod> sorted = new ArrayList<>(glueMethods);
+        sorted.sort(Comparator.comparing(GlueMethod::getDeclaringClass)
+                .thenComparing(GlueMethod::getName)
+                .thenComparing(GlueMethod::getDescriptor)
+                .thenComparing(GlueMethod::getAnnotation));
+        recorder.registerGlue(sorted);
+    }
+
+    private static void addGlueMethod(IndexView index, Set<GlueMethod> glueMethods, AnnotationTarget target,
+            DotName annotation) {
+        if (target.kind() != AnnotationTarget.Kind.METHOD) {
+            return;
+        }
+        MethodInfo method = target.asMethod();
+        if (!Modifier.isPublic(method.flags()) || method.isSynthetic()) {
+            return;
+        }
+        String descriptor = method.descriptor(typeVariable -> null);
+        if (isGlueClass(method.declaringClass())) {
+            glueMethods.add(new GlueMethod(method.declaringClass().name().toString(), method.name(), descriptor,
+                    annotation.toString()));
+        }
+        // cucumber-java rejects glue classes inheriting glue methods, so they are registered for the runtime to
+        // reject them as well
+        for (ClassInfo subclass : index.getAllKnownSubclasses(method.declaringClass().name())) {
+            if (isGlueClass(subclass)) {
+                glueMethods.add(new GlueMethod(subclass.name().toString(), method.name(), descriptor,
+                        annotation.toString()));
+            }
+        }
+    }
+
+    /**
+     * @return true if the target of a glue annotation is a public method of a glue class
+     */
+    private static boolean isGlue(AnnotationTarget target) {
+        if (target.kind() != AnnotationTarget.Kind.METHOD) {
+            return false;
+        }
+        MethodInfo method = target.asMethod();
+        return Modifier.isPublic(method.flags()) && !method.isSynthetic() && isGlueClass(method.declaringClass());
+    }
+
+    /**
+     * @return true if the class is public, concrete, and top level or static nested
+     */
+    private static boolean isGlueClass(ClassInfo classInfo) {
+        return Modifier.isPublic(classInfo.flags()) && !classInfo.isAbstract() && !classInfo.isInterface()
+                && (classInfo.nestingType() == ClassInfo.NestingType.TOP_LEVEL
+                        || Modifier.isStatic(classInfo.flags()));
+    }
+
+    /**
+     * Parses all feature files of the application at build time, for the indexes and the validation below
+     * <p>
+     * Nothing is read if none of them is enabled
+     */
+    @BuildStep
+    void featureFiles(CucumberBuildTimeConfig config, ApplicationArchivesBuildItem applicationArchives,
+            BuildProducer<FeatureFilesBuildItem> featureFiles) {
+        if (!config.pickleIndex().enabled() && !config.testImpact().enabled()
+                && !isEnabled(config.stepValidation())) {
+            return;
+        }
+        PickleIndex.Builder index = PickleIndex.builder();
+        Map<String, byte[]> sources = new HashMap<>();
+        forEachFeatureFile(applicationArchives, (resourceName, source) -> {
+            index.addFeature(resourceName, source);
+            sources.putIfAbsent(resourceName, source);
+        });
+        featureFiles.produce(new FeatureFilesBuildItem(index, sources));
+    }
+
+    private static void forEachFeatureFile(ApplicationArchivesBuildItem applicationArchives,
+            BiConsumer<String, byte[]> action) {
+        for (var archive : applicationArchives.getAllApplicationArchives()) {
+            archive.accept(tree -> tree.walk(visit -> {
+                String resourceName = visit.getRelativePath("/");
+                if (FeatureIdentifier.isFeature(resourceName)) {
+                    try {
+                        action.accept(resourceName, Files.readAllBytes(visit.getPath()));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to read " + visit.getPath(), e);
+                    }
+                }
+            }));
+        }
+    }
+
+    /**
+     * @return true if a tag line of the feature file, of the feature or of any of its parts, has the tag
+     */
+    static boolean isTagged(byte[] source, String tag) {
+        for (String line : new String(source, StandardCharsets.UTF_8).split("\\R")) {
+            String trimmed = line.strip();
+            if (!trimmed.startsWith("@")) {
+                continue;
+            }
+            for (String token : trimmed.split("\\s+")) {
+                if (token.startsWith("#")) {
+                    // the rest of the line is a comment
+                    break;
+                }
+                if (token.equals(tag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indexes the parsed feature files, so the tests neither have to scan the class path for them nor
+     * parse the ones without any selected scenario
+     */
+    @BuildStep
+    void pickleIndex(CucumberBuildTimeConfig config, Optional<FeatureFilesBuildItem> featureFiles,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources) {
+        if (!config.pickleIndex().enabled()) {
+            return;
+        }
+        featureFiles.get().getPickleIndex().build().ifPresent(data -> generatedResources
+                .produce(new GeneratedResourceBuildItem(PickleIndex.RESOURCE_NAME, data)));
+    }
+
+    /**
+     * Maps every glue class, and every class it depends on through CDI injection or inheritance, to the
+     * pickles it can affect, so the tests can run only the pickles affected by a change
+     * <p>
+     * Glue is selected with the same rules as in {@link #glueRegistry}
+     */
+    @BuildStep
+    void testImpactIndex(CucumberBuildTimeConfig config, Optional<FeatureFilesBuildItem> featureFiles,
+            CombinedIndexBuildItem indexBuildItem, SynthesisFinishedBuildItem synthesisFinished,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources) {
+        if (!config.testImpact().enabled() || featureFiles.get().getPickleIndex().isAmbiguous()) {
+            return;
+        }
+        IndexView index = indexBuildItem.getIndex();
+        TestImpactIndex.Builder impactIndex = TestImpactIndex.builder();
+        featureFiles.get().getPickleIndex().getFeatures().forEach((resourceName, feature) -> impactIndex
+                .addFeature(resourceName, feature.getPickles().orElse(List.of())));
+
+        Set<String> glueClasses = new TreeSet<>();
+        for (var annotation : HOOK_ANNOTATIONS) {
+            for (var annotationInst : index.getAnnotations(annotation)) {
+                String glueClass = glueClass(annotationInst.target());
+                if (glueClass == null) {
+                    continue;
+                }
+                glueClasses.add(glueClass);
+                if (TAGGED_HOOK_ANNOTATIONS.contains(annotation)) {
+                    AnnotationValue value = annotationInst.value();
+                    impactIndex.addHook(glueClass, value == null ? "" : value.asString());
+                } else {
+                    impactIndex.addGlobalGlue(glueClass);
+                }
+            }
+        }
+        forEachParameterType(index, impactIndex::addParameterType);
+        forEachStepDefinition(index, (method, expression) -> {
+            String glueClass = method.declaringClass().name().toString();
+            glueClasses.add(glueClass);
+            impactIndex.addStepDefinition(glueClass, expression);
+        });
+
+        for (String glueClass : glueClasses) {
+            impactIndex.addDependencies(glueClass, dependencies(index, synthesisFinished, DotName.createSimple(glueClass)));
+        }
+        generatedResources.produce(new GeneratedResourceBuildItem(TestImpactIndex.RESOURCE_NAME, impactIndex.build()));
+    }
+
+    /**
+     * Cross-checks the steps of all feature files against all step definitions, so undefined and ambiguous
+     * steps are reported without running the tests
+     * <p>
+     * Glue is selected with the same rules as in {@link #glueRegistry}, and the steps of a feature are matched
+     * against the glue packages of the test classes selecting it
+     */
+    @BuildStep
+    void validateSteps(CucumberBuildTimeConfig config, Optional<FeatureFilesBuildItem> featureFiles,
+            CombinedIndexBuildItem indexBuildItem, BuildProducer<ValidationErrorBuildItem> validationErrors) {
+        StepValidationConfig validation = config.stepValidation();
+        if (!isEnabled(validation)) {
+            return;
+        }
+        IndexView index = indexBuildItem.getIndex();
+        StepValidator validator = new StepValidator();
+        forEachParameterType(index, validator::addParameterType);
+        forEachStepDefinition(index, (method, expression) -> validator.addStepDefinition(codeLocation(method),
+                method.declaringClass().name().toString(), expression));
+        forEachTestClass(index, validator::addTestClass);
+        StepValidator.Findings findings = validator.validate(featureFiles.get().getPickleIndex().getFeatures(),
+                featureFiles.get()::getSource);
+
+        List<String> errors = report(validation, findings);
+        if (!errors.isEmpty()) {
+            validationErrors.produce(new ValidationErrorBuildItem(new IllegalStateException(
+                    "Cucumber step validation failed:\n\n" + String.join("\n\n", errors))));
+        }
+    }
+
+    private static boolean isEnabled(StepValidationConfig validation) {
+        return validation.undefined() != Severity.OFF || validation.ambiguous() != Severity.OFF
+                || validation.unused() != Severity.OFF || validation.invalid() != Severity.OFF;
+    }
+
+    /**
+     * Logs the findings reported as warnings
+     *
+     * @return the findings failing the build
+     */
+    static List<String> report(StepValidationConfig validation, StepValidator.Findings findings) {
+        List<String> errors = new ArrayList<>();
+        report(validation.undefined(), findings.undefined, errors);
+        report(validation.ambiguous(), findings.ambiguous, errors);
+        report(validation.unused(), findings.unused, errors);
+        report(validation.invalid(), findings.invalid, errors);
+        return errors;
+    }
+
+    private static void report(Severity severity, List<String> findings, List<String> errors) {
+        switch (severity) {
+            case FAIL -> errors.addAll(findings);
+            case WARN -> findings.forEach(LOG::warn);
+            case OFF -> {
+            }
+        }
+    }
+
+    /**
+     * Calls the consumer with the glue packages and the class path feature paths of every concrete
+     * {@link CucumberQuarkusTest}, resolved like Cucumber resolves the {@link CucumberOptions} of the nearest
+     * annotated class
+     * <p>
+     * Without any annotation, the test class runs the features and glue of the run-time configuration, e.g.
+     * {@code quarkus.cucumber.features} and {@code quarkus.cucumber.glue}, which may differ from the values
+     * seen by the build, so it is taken to run all features with all glue
+     */
+    static void forEachTestClass(IndexView index, BiConsumer<List<String>, List<String>> consumer) {
+        for (ClassInfo testClass : index.getAllKnownSubclasses(CUCUMBER_QUARKUS_TEST)) {
+            if (testClass.isAbstract()) {
+                continue;
+            }
+            ClassInfo annotated = testClass;
+            while (annotated != null && annotated.declaredAnnotation(CUCUMBER_OPTIONS) == null) {
+                annotated = testSuperclass(index, annotated);
+            }
+            if (annotated == null) {
+                consumer.accept(List.of(""), List.of(""));
+                continue;
+            }
+            List<String> gluePackages = new ArrayList<>();
+            List<String> featurePaths = new ArrayList<>();
+            boolean glueSpecified = false;
+            boolean featuresSpecified = false;
+            for (ClassInfo options = annotated; options != null; options = testSuperclass(index, options)) {
+                AnnotationInstance annotation = options.declaredAnnotation(CUCUMBER_OPTIONS);
+                if (annotation == null) {
+                    continue;
+                }
+                for (String glue : stringArray(annotation, "glue")) {
+                    gluePackages.add(gluePackage(glue));
+                    glueSpecified = true;
+                }
+                for (String glue : stringArray(annotation, "extraGlue")) {
+                    gluePackages.add(gluePackage(glue));
+                }
+                for (String path : stringArray(annotation, "features")) {
+                    featurePath(path).ifPresent(featurePaths::add);
+                    featuresSpecified = true;
+                }
+            }
+            String packageName = annotated.name().packagePrefix() == null ? "" : annotated.name().packagePrefix();
+            if (!glueSpecified) {
+                gluePackages.add(packageName);
+            }
+            if (!featuresSpecified) {
+                featurePaths.add(packageName.replace('.', '/'));
+            }
+            consumer.accept(gluePackages, featurePaths);
+        }
+    }
+
+    private static ClassInfo testSuperclass(IndexView index, ClassInfo testClass) {
+        DotName superName = testClass.superName();
+        return superName == null || superName.equals(CUCUMBER_QUARKUS_TEST) ? null : index.getClassByName(superName);
+    }
+
+    private static List<String> stringArray(AnnotationInstance annotation, String name) {
+        AnnotationValue value = annotation.value(name);
+        return value == null ? List.of() : Arrays.asList(value.asStringArray());
+    }
+
+    /**
+     * @return the package of a glue path, e.g. {@code com.example} of {@code classpath:com/example}
+     */
+    private static String gluePackage(String gluePath) {
+        String gluePackage = gluePath.trim();
+        if (gluePackage.startsWith(ClasspathSupport.CLASSPATH_SCHEME_PREFIX)) {
+            gluePackage = gluePackage.substring(ClasspathSupport.CLASSPATH_SCHEME_PREFIX.length()).replace('/', '.');
+        }
+        while (gluePackage.startsWith(".")) {
+            gluePackage = gluePackage.substring(1);
+        }
+        while (gluePackage.endsWith(".")) {
+            gluePackage = gluePackage.substring(0, gluePackage.length() - 1);
+        }
+        return gluePackage;
+    }
+
+    /**
+     * @return the class path resource name of a feature path without its lines, empty if it is not on the
+     *         class path
+     */
+    private static Optional<String> featurePath(String featurePath) {
+        String path = featurePath.trim();
+        if (!path.startsWith(ClasspathSupport.CLASSPATH_SCHEME_PREFIX)) {
+            // a file, the features in it are not known by their resource name
+            return Optional.empty();
+        }
+        path = path.substring(ClasspathSupport.CLASSPATH_SCHEME_PREFIX.length()).replaceFirst(":[\\d:]*$", "");
+        while (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        while (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return Optional.of(path);
+    }
+
+    /**
+     * Calls the consumer with every glue method annotated with a step definition annotation, once for every
+     * expression
+     */
+    private static void forEachStepDefinition(IndexView index, BiConsumer<MethodInfo, String> consumer) {
+        for (var stepDefinition : index.getAnnotations(DotName.createSimple(StepDefinitionAnnotation.class.getName()))) {
+            for (var annotationInst : index.getAnnotations(stepDefinition.target().asClass().name())) {
+                if (glueClass(annotationInst.target()) != null) {
+                    consumer.accept(annotationInst.target().asMethod(), annotationInst.value().asString());
+                }
+            }
+        }
+        for (var stepDefinitions : index.getAnnotations(DotName.createSimple(StepDefinitionAnnotations.class.getName()))) {
+            for (var annotationInst : index.getAnnotations(stepDefinitions.target().asClass().name())) {
+                if (glueClass(annotationInst.target()) != null) {
+                    for (var repeated : annotationInst.value().asNestedArray()) {
+                        consumer.accept(annotationInst.target().asMethod(), repeated.value().asString());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls the consumer with the name and regular expressions of every glue method annotated with
+     * {@code @ParameterType}
+     */
+    private static void forEachParameterType(IndexView index, BiConsumer<String, List<String>> consumer) {
+        for (var annotationInst : index.getAnnotations(PARAMETER_TYPE)) {
+            if (glueClass(annotationInst.target()) != null) {
+                AnnotationValue name = annotationInst.value("name");
+                consumer.accept(name == null || name.asString().isEmpty() ? annotationInst.target().asMethod().name()
+                        : name.asString(), List.of(annotationInst.value().asString()));
+            }
+        }
+    }
+
+    /**
+     * @return the location of a glue method, as Cucumber reports it
+     */
+    private static String codeLocation(MethodInfo method) {
+        return method.declaringClass().name() + "." + method.name() + method.parameterTypes().stream()
+                .map(type -> type.name().toString())
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    /**
+     * @return the class declaring a glue method, or null if the target is not glue
+     */
+    private static String glueClass(AnnotationTarget target) {
+        return isGlue(target) ? target.asMethod().declaringClass().name().toString() : null;
+    }
+
+    /**
+     * Collects the superclasses of a glue class and, transitively, the beans injected into it, the classes
+     * declaring their producers and their superclasses
+     */
+    private static Set<String> dependencies(IndexView index, SynthesisFinishedBuildItem synthesisFinished,
+            DotName glueClass) {
+        Set<DotName> classes = new HashSet<>();
+        addClassHierarchy(index, classes, glueClass);
+        Set<BeanInfo> visited = new HashSet<>();
+        Deque<BeanInfo> queue = new ArrayDeque<>();
+        synthesisFinished.beanStream().classBeans().filter(bean -> bean.getBeanClass().equals(glueClass))
+                .forEach(queue::add);
+        while (!queue.isEmpty()) {
+            BeanInfo bean = queue.poll();
+            if (!visited.add(bean)) {
+                continue;
+            }
+            for (InjectionPointInfo injectionPoint : bean.getAllInjectionPoints()) {
+                for (BeanInfo resolved : synthesisFinished.getBeanResolver()
+                        .resolveBeans(injectionPoint.getRequiredType(), injectionPoint.getRequiredQualifiers())) {
+                    if (resolved.getImplClazz() != null) {
+                        addClassHierarchy(index, classes, resolved.getImplClazz().name());
+                    }
+                    addClassHierarchy(index, classes, resolved.getBeanClass());
+                    queue.add(resolved);
+                    if (resolved.isProducer()) {
+                        queue.add(resolved.getDeclaringBean());
+                    }
+                }
+            }
+        }
+        // only application classes and indexed dependencies can be reported as changed
+        return classes.stream()
+                .filter(name -> index.getClassByName(name) != null)
+                .map(DotName::toString)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static void addClassHierarchy(IndexView index, Set<DotName> classes, DotName name) {
+        while (name != null && !name.equals(DotName.OBJECT_NAME) && classes.add(name)) {
+            ClassInfo classInfo = index.getClassByName(name);
+            name = classInfo == null ? null : classInfo.superName();
+        }
     }
 
     @BuildStep
@@ -97,4 +688,32 @@ class CucumberProcessor {
     CustomScopeBuildItem scenarioScope() {
         return new CustomScopeBuildItem(DotName.createSimple(ScenarioScope.class.getName()));
     }
+
+    @BuildStep
+    ContextConfiguratorBuildItem featureContext(ContextRegistrationPhaseBuildItem contextRegistrationPhase) {
+        return new ContextConfiguratorBuildItem(
+                contextRegistrationPhase.getContext()
+                        .configure(FeatureScope.class)
+                        .normal()
+                        .contextClass(FeatureContext.class));
+    }
+
+    @BuildStep
+    CustomScopeBuildItem featureScope() {
+        return new CustomScopeBuildItem(DotName.createSimple(FeatureScope.class.getName()));
+    }
+
+    @BuildStep
+    ContextConfiguratorBuildItem runContext(ContextRegistrationPhaseBuildItem contextRegistrationPhase) {
+        return new ContextConfiguratorBuildItem(
+                contextRegistrationPhase.getContext()
+                        .configure(RunScope.class)
+                        .normal()
+                        .contextClass(RunContext.class));
+    }
+
+    @BuildStep
+    CustomScopeBuildItem runScope() {
+        return new CustomScopeBuildItem(DotName.createSimple(RunScope.class.getName()));
+    }
 }
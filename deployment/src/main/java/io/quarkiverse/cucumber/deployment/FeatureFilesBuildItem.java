@@ -0,0 +1,39 @@
+package io.quarkiverse.cucumber.deployment;
+
+import java.util.Collection;
+import java.util.Map;
+
+import io.quarkiverse.cucumber.PickleIndex;
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The feature files of the application, parsed once at build time.
+ */
+final class FeatureFilesBuildItem extends SimpleBuildItem {
+
+    private final PickleIndex.Builder pickleIndex;
+    private final Map<String, byte[]> sources;
+
+    FeatureFilesBuildItem(PickleIndex.Builder pickleIndex, Map<String, byte[]> sources) {
+        this.pickleIndex = pickleIndex;
+        this.sources = sources;
+    }
+
+    PickleIndex.Builder getPickleIndex() {
+        return pickleIndex;
+    }
+
+    /**
+     * @return the contents of all feature files
+     */
+    Collection<byte[]> getSources() {
+        return sources.values();
+    }
+
+    /**
+     * @return the content of a feature file, or null if there is none with that resource name
+     */
+    byte[] getSource(String resourceName) {
+        return sources.get(resourceName);
+    }
+}
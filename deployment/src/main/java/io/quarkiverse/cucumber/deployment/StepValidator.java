@@ -0,0 +1,289 @@
+package io.quarkiverse.cucumber.deployment;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.cucumber.core.backend.Snippet;
+import io.cucumber.core.feature.FeatureParser;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.gherkin.Step;
+import io.cucumber.core.resource.Resource;
+import io.cucumber.core.snippets.SnippetGenerator;
+import io.cucumber.core.snippets.SnippetType;
+import io.cucumber.cucumberexpressions.Expression;
+import io.cucumber.cucumberexpressions.ExpressionFactory;
+import io.cucumber.cucumberexpressions.ParameterType;
+import io.cucumber.cucumberexpressions.ParameterTypeRegistry;
+import io.cucumber.java.JavaBackendProviderService;
+import io.quarkiverse.cucumber.PickleIndex;
+
+/**
+ * Cross-checks the steps of all feature files against all step definitions, as Cucumber would when
+ * running them.
+ * <p>
+ * Every distinct step text is matched once per feature language against every step definition, with the
+ * built-in and the {@code @ParameterType} parameter types. The steps of a feature file are checked against
+ * the step definitions in the glue packages of every test class selecting it, so separate glue defining the
+ * same step for separate features is not ambiguous. A feature file no test class is known to select is
+ * checked against all step definitions.
+ */
+final class StepValidator {
+
+    private static final int MAX_LOCATIONS = 3;
+
+    // the glue packages of the features selected by no test class, the root package holds all glue
+    private static final Set<String> ALL_GLUE = Set.of("");
+
+    private final Map<String, List<String>> parameterTypes = new LinkedHashMap<>();
+    private final List<StepDefinition> stepDefinitions = new ArrayList<>();
+    private final List<TestClass> testClasses = new ArrayList<>();
+
+    /**
+     * Adds a custom parameter type.
+     */
+    void addParameterType(String name, List<String> regexps) {
+        parameterTypes.put(name, regexps);
+    }
+
+    /**
+     * Adds a step definition.
+     *
+     * @param location the method of the step definition, as in Cucumber's reports
+     * @param glueClass the class declaring the step definition
+     * @param expression the cucumber expression or regular expression of the step definition
+     */
+    void addStepDefinition(String location, String glueClass, String expression) {
+        stepDefinitions.add(new StepDefinition(location, glueClass, expression));
+    }
+
+    /**
+     * Adds the glue packages and feature paths of a test class.
+     *
+     * @param gluePackages the packages the test class loads glue from, the empty package for all glue
+     * @param featurePaths the class path resource names of the feature files and directories the test class
+     *        runs, the empty name for all feature files
+     */
+    void addTestClass(Collection<String> gluePackages, Collection<String> featurePaths) {
+        testClasses.add(new TestClass(Set.copyOf(gluePackages), List.copyOf(featurePaths)));
+    }
+
+    /**
+     * @param features the indexed feature files
+     * @param sources the content of a feature file by resource name, to generate snippets from
+     * @return the problems found
+     */
+    Findings validate(Map<String, PickleIndex.IndexedFeature> features, Function<String, byte[]> sources) {
+        // language -> step text -> glue packages -> the steps with that text, run with that glue
+        Map<String, Map<String, Map<Set<String>, List<LocatedStep>>>> stepsByText = new TreeMap<>();
+        features.values().forEach(feature -> {
+            List<Set<String>> glues = glues(feature.getResourceName());
+            feature.getPickles().orElse(List.of()).forEach(pickle -> {
+                for (Step step : pickle.getSteps()) {
+                    Map<Set<String>, List<LocatedStep>> stepsByGlue = stepsByText
+                            .computeIfAbsent(pickle.getLanguage(), language -> new LinkedHashMap<>())
+                            .computeIfAbsent(step.getText(), text -> new LinkedHashMap<>());
+                    for (Set<String> glue : glues) {
+                        stepsByGlue.computeIfAbsent(glue, g -> new ArrayList<>())
+                                .add(new LocatedStep(feature.getResourceName(), pickle, step));
+                    }
+                }
+            });
+        });
+
+        Findings findings = new Findings();
+        Map<StepDefinition, String> invalid = new LinkedHashMap<>();
+        Set<StepDefinition> used = new HashSet<>();
+        Snippet snippet = new JavaBackendProviderService()
+                .create(null, null, StepValidator.class::getClassLoader)
+                .getSnippet();
+        stepsByText.forEach((language, texts) -> {
+            ParameterTypeRegistry registry = parameterTypeRegistry(language);
+            ExpressionFactory expressionFactory = new ExpressionFactory(registry);
+            Map<StepDefinition, Expression> expressions = new LinkedHashMap<>();
+            for (StepDefinition stepDefinition : stepDefinitions) {
+                try {
+                    expressions.put(stepDefinition, expressionFactory.createExpression(stepDefinition.expression()));
+                } catch (RuntimeException e) {
+                    invalid.putIfAbsent(stepDefinition, e.getMessage());
+                }
+            }
+            SnippetGenerator snippets = new SnippetGenerator(language, snippet, registry);
+            texts.forEach((text, stepsByGlue) -> {
+                List<StepDefinition> allMatches = expressions.entrySet().stream()
+                        .filter(e -> e.getValue().match(text) != null)
+                        .map(Map.Entry::getKey)
+                        .toList();
+                // the steps matching no step definition, and the step definitions matched by more than one
+                Set<LocatedStep> undefined = new LinkedHashSet<>();
+                Set<LocatedStep> ambiguous = new LinkedHashSet<>();
+                Set<StepDefinition> ambiguousMatches = new LinkedHashSet<>();
+                stepsByGlue.forEach((glue, steps) -> {
+                    List<StepDefinition> matches = allMatches.stream()
+                            .filter(stepDefinition -> stepDefinition.isIn(glue))
+                            .toList();
+                    used.addAll(matches);
+                    if (matches.isEmpty()) {
+                        undefined.addAll(steps);
+                    } else if (matches.size() > 1) {
+                        ambiguous.addAll(steps);
+                        ambiguousMatches.addAll(matches);
+                    }
+                });
+                if (!undefined.isEmpty()) {
+                    LocatedStep first = undefined.iterator().next();
+                    Step step = parsed(first, sources).orElse(first.step());
+                    findings.undefined.add("Undefined step \"" + keyword(step) + text + "\" at " + locations(undefined)
+                            + ", implement it with:\n\n"
+                            + snippets.getSnippet(step, SnippetType.UNDERSCORE).stream()
+                                    .collect(Collectors.joining("\n")));
+                }
+                if (!ambiguous.isEmpty()) {
+                    findings.ambiguous.add("Ambiguous step \"" + keyword(ambiguous.iterator().next().step()) + text
+                            + "\" at " + locations(ambiguous) + " matches "
+                            + ambiguousMatches.stream().map(StepDefinition::toString).collect(Collectors.joining(", ")));
+                }
+            });
+        });
+        invalid.forEach((stepDefinition, message) -> findings.invalid
+                .add("Step definition " + stepDefinition + " can not match any step: " + message));
+        for (StepDefinition stepDefinition : stepDefinitions) {
+            if (!used.contains(stepDefinition) && !invalid.containsKey(stepDefinition)) {
+                findings.unused.add("Unused step definition " + stepDefinition);
+            }
+        }
+        return findings;
+    }
+
+    /**
+     * @return the distinct glue packages of the test classes selecting the feature file
+     */
+    private List<Set<String>> glues(String resourceName) {
+        List<Set<String>> glues = testClasses.stream()
+                .filter(testClass -> testClass.selects(resourceName))
+                .map(TestClass::gluePackages)
+                .distinct()
+                .toList();
+        return glues.isEmpty() ? List.of(ALL_GLUE) : glues;
+    }
+
+    private ParameterTypeRegistry parameterTypeRegistry(String language) {
+        ParameterTypeRegistry registry = new ParameterTypeRegistry(Locale.forLanguageTag(language));
+        parameterTypes.forEach((name, regexps) -> {
+            try {
+                registry.defineParameterType(new ParameterType<>(name, regexps, Object.class,
+                        (String[] args) -> null, false, false));
+            } catch (RuntimeException e) {
+                // a step definition using it can not be created, and is reported as such
+            }
+        });
+        return registry;
+    }
+
+    /**
+     * The indexed steps carry no data table or doc string, the snippet of an undefined step is generated
+     * from the step parsed again.
+     */
+    private static Optional<Step> parsed(LocatedStep located, Function<String, byte[]> sources) {
+        byte[] source = sources.apply(located.resourceName());
+        if (source == null) {
+            return Optional.empty();
+        }
+        URI uri = located.pickle().getUri();
+        Resource resource = new Resource() {
+            @Override
+            public URI getUri() {
+                return uri;
+            }
+
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(source);
+            }
+        };
+        try {
+            return new FeatureParser(UUID::randomUUID).parseResource(resource).stream()
+                    .map(Feature::getPickles)
+                    .flatMap(List::stream)
+                    .map(Pickle::getSteps)
+                    .flatMap(List::stream)
+                    .filter(step -> step.getLine() == located.step().getLine())
+                    .findFirst();
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String keyword(Step step) {
+        return step.getType().isGivenWhenThen() ? step.getKeyword() : step.getPreviousGivenWhenThenKeyword();
+    }
+
+    private static String locations(Collection<LocatedStep> steps) {
+        String locations = steps.stream()
+                .limit(MAX_LOCATIONS)
+                .map(step -> step.pickle().getUri() + ":" + step.step().getLine())
+                .distinct()
+                .collect(Collectors.joining(", "));
+        return steps.size() > MAX_LOCATIONS ? locations + " and " + (steps.size() - MAX_LOCATIONS) + " more"
+                : locations;
+    }
+
+    private record StepDefinition(String location, String glueClass, String expression) {
+
+        boolean isIn(Set<String> gluePackages) {
+            for (String gluePackage : gluePackages) {
+                if (gluePackage.isEmpty() || glueClass.startsWith(gluePackage + ".")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return location + " (\"" + expression + "\")";
+        }
+    }
+
+    private record LocatedStep(String resourceName, Pickle pickle, Step step) {
+    }
+
+    private record TestClass(Set<String> gluePackages, List<String> featurePaths) {
+
+        boolean selects(String resourceName) {
+            for (String featurePath : featurePaths) {
+                if (featurePath.isEmpty() || resourceName.equals(featurePath)
+                        || resourceName.startsWith(featurePath + "/")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The problems found, one message each.
+     */
+    static final class Findings {
+
+        final List<String> undefined = new ArrayList<>();
+        final List<String> ambiguous = new ArrayList<>();
+        final List<String> unused = new ArrayList<>();
+        final List<String> invalid = new ArrayList<>();
+    }
+}
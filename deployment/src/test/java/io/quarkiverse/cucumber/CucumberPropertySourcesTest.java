@@ -0,0 +1,99 @@
+package io.quarkiverse.cucumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.cucumber.core.options.RuntimeOptions;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+class CucumberPropertySourcesTest {
+
+    private final ClassLoader original = Thread.currentThread().getContextClassLoader();
+    private SmallRyeConfig config;
+
+    @BeforeEach
+    void isolateConfig() {
+        // the configuration of a Quarkus test may still be registered for the class loader of the tests
+        Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[0], original));
+    }
+
+    @AfterEach
+    void releaseConfig() {
+        if (config != null) {
+            ConfigProviderResolver.instance().releaseConfig(config);
+        }
+        Thread.currentThread().setContextClassLoader(original);
+    }
+
+    @Test
+    void mapsTheQuarkusConfigToTheRuntimeOptions() {
+        register(Map.of(
+                "quarkus.cucumber.glue", "io.example.mapped",
+                "quarkus.cucumber.filter.tags", "@mapped",
+                "quarkus.cucumber.execution.limit", "3",
+                "quarkus.cucumber.execution.dry-run", "true"));
+
+        RuntimeOptions runtimeOptions = CucumberQuarkusTest.runtimeOptions(null);
+
+        assertEquals(List.of(URI.create("classpath:/io/example/mapped")), runtimeOptions.getGlue());
+        assertEquals(List.of("@mapped"), runtimeOptions.getTagExpressions().stream().map(Object::toString).toList());
+        assertEquals(3, runtimeOptions.getLimitCount());
+        assertEquals(true, runtimeOptions.isDryRun());
+    }
+
+    @Test
+    void cucumberOptionsTakePrecedence() {
+        register(Map.of(
+                "quarkus.cucumber.glue", "io.example.mapped",
+                "quarkus.cucumber.filter.tags", "@mapped",
+                "quarkus.cucumber.execution.limit", "3"));
+
+        RuntimeOptions runtimeOptions = CucumberQuarkusTest.runtimeOptions(Annotated.class);
+
+        assertEquals(List.of(URI.create("classpath:/io/example/annotated")), runtimeOptions.getGlue());
+        assertEquals(List.of("@annotated"), runtimeOptions.getTagExpressions().stream().map(Object::toString).toList());
+        // not set by the annotation
+        assertEquals(3, runtimeOptions.getLimitCount());
+    }
+
+    @Test
+    void cachesThePropertiesForTheRunningApplication() {
+        register(Map.of("quarkus.cucumber.filter.tags", "@first"));
+        CucumberPropertySources first = CucumberPropertySources.get();
+        assertSame(first, CucumberPropertySources.get());
+
+        // like an application started later with another profile
+        ConfigProviderResolver.instance().releaseConfig(config);
+        register(Map.of("quarkus.cucumber.filter.tags", "@second"));
+        CucumberPropertySources second = CucumberPropertySources.get();
+
+        assertNotSame(first, second);
+        assertEquals("@second", second.properties().get("cucumber.filter.tags"));
+    }
+
+    private void register(Map<String, String> properties) {
+        config = new SmallRyeConfigBuilder()
+                .withMapping(CucumberRuntimeConfig.class)
+                .withSources(new PropertiesConfigSource(properties, "test", 500))
+                .build();
+        ConfigProviderResolver.instance().registerConfig(config, Thread.currentThread().getContextClassLoader());
+    }
+
+    @CucumberOptions(glue = "io.example.annotated", tags = "@annotated")
+    public static class Annotated extends CucumberQuarkusTest {
+    }
+}
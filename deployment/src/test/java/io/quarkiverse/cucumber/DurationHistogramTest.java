@@ -0,0 +1,54 @@
+package io.quarkiverse.cucumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class DurationHistogramTest {
+
+    @Test
+    void keepsSmallDurationsExact() {
+        DurationHistogram histogram = new DurationHistogram();
+        for (int nanos = 1; nanos <= 10; nanos++) {
+            histogram.record(nanos);
+        }
+
+        assertEquals(new DurationHistogram.Snapshot(10, 55, 5, 10, 10, 10), histogram.snapshot());
+    }
+
+    @Test
+    void estimatesPercentilesWithinTheBucketPrecision() {
+        DurationHistogram histogram = new DurationHistogram();
+        long[] samples = new Random(42).longs(10_000, 1_000_000, 5_000_000_000L).toArray();
+        Arrays.stream(samples).forEach(histogram::record);
+        Arrays.sort(samples);
+
+        DurationHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(samples.length, snapshot.count());
+        assertEquals(Arrays.stream(samples).sum(), snapshot.total());
+        assertEquals(samples[samples.length - 1], snapshot.max());
+        assertWithinPrecision(samples[5_000 - 1], snapshot.p50());
+        assertWithinPrecision(samples[9_500 - 1], snapshot.p95());
+        assertWithinPrecision(samples[9_900 - 1], snapshot.p99());
+    }
+
+    @Test
+    void mapsEveryDurationToTheBucketCoveringIt() {
+        for (long nanos : new long[] { 0, 63, 64, 127, 128, 1_000_000, 1_234_567_891, Long.MAX_VALUE / 3,
+                Long.MAX_VALUE }) {
+            int bucket = DurationHistogram.bucket(nanos);
+            assertTrue(DurationHistogram.lowest(bucket) <= nanos, () -> nanos + " below bucket " + bucket);
+            assertTrue(nanos == Long.MAX_VALUE || nanos < DurationHistogram.lowest(bucket + 1),
+                    () -> nanos + " above bucket " + bucket);
+        }
+    }
+
+    private static void assertWithinPrecision(long exact, long estimate) {
+        assertTrue(estimate >= exact && estimate <= exact + exact / 64, () -> estimate + " is not within 1/64 of " + exact);
+    }
+}
@@ -0,0 +1,134 @@
+package io.quarkiverse.cucumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.cucumber.core.feature.FeatureParser;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.runtime.FeatureSupplier;
+
+class IndexedFeatureSupplierTest {
+
+    private static final String FAST = "Feature: Fast\n\n  Scenario: fast\n    Given a step\n";
+    private static final String SLOW = "@slow\nFeature: Slow\n\n  Scenario: slow\n    Given a step\n";
+    private static final Predicate<Pickle> NOT_SLOW = pickle -> !pickle.getTags().contains("@slow");
+
+    @TempDir
+    Path classPath;
+
+    @Test
+    void usesTheIndexInsteadOfTheFallback() throws IOException {
+        Map<String, String> features = Map.of("features/fast.feature", FAST, "features/slow.feature", SLOW);
+        index(features);
+        write(features);
+
+        List<Feature> supplied = supplier(List.of(URI.create("classpath:features")), pickle -> true).get();
+
+        assertEquals(List.of(URI.create("classpath:features/fast.feature"), URI.create("classpath:features/slow.feature")),
+                supplied.stream().map(Feature::getUri).toList());
+    }
+
+    @Test
+    void skipsUnchangedFeaturesWithoutSelectedPickles() throws IOException {
+        Map<String, String> features = Map.of("features/fast.feature", FAST, "features/slow.feature", SLOW);
+        index(features);
+        write(features);
+
+        List<Feature> supplied = supplier(List.of(URI.create("classpath:features")), NOT_SLOW).get();
+
+        assertEquals(List.of(URI.create("classpath:features/fast.feature")),
+                supplied.stream().map(Feature::getUri).toList());
+    }
+
+    @Test
+    void parsesFeaturesChangedSinceTheIndexWasBuilt() throws IOException {
+        index(Map.of("features/fast.feature", FAST, "features/slow.feature", SLOW));
+        // no longer tagged, the indexed pickles would wrongly skip it
+        write(Map.of("features/fast.feature", FAST, "features/slow.feature", SLOW.replace("@slow\n", "")));
+
+        List<Feature> supplied = supplier(List.of(URI.create("classpath:features")), NOT_SLOW).get();
+
+        assertEquals(List.of(URI.create("classpath:features/fast.feature"), URI.create("classpath:features/slow.feature")),
+                supplied.stream().map(Feature::getUri).toList());
+    }
+
+    @Test
+    void fallsBackForFeaturesGoneSinceTheIndexWasBuilt() throws IOException {
+        index(Map.of("features/fast.feature", FAST, "features/slow.feature", SLOW));
+        write(Map.of("features/fast.feature", FAST));
+
+        IndexedFeatureSupplier supplier = supplier(List.of(URI.create("classpath:features")), pickle -> true);
+
+        assertEquals(List.of(), supplier.get());
+        assertFalse(supplier.stream().isPresent());
+    }
+
+    @Test
+    void fallsBackForFeaturePathsOutsideTheClassPath() throws IOException {
+        Map<String, String> features = Map.of("features/fast.feature", FAST);
+        index(features);
+        write(features);
+
+        IndexedFeatureSupplier supplier = supplier(List.of(classPath.resolve("features").toUri()), pickle -> true);
+
+        assertEquals(List.of(), supplier.get());
+        assertFalse(supplier.stream().isPresent());
+    }
+
+    @Test
+    void streamsTheSelectedFeatures() throws IOException {
+        Map<String, String> features = Map.of("features/fast.feature", FAST, "features/slow.feature", SLOW);
+        index(features);
+        write(features);
+
+        IndexedFeatureSupplier supplier = supplier(List.of(URI.create("classpath:features/fast.feature")), pickle -> true);
+
+        assertTrue(supplier.stream().isPresent());
+        assertEquals(List.of(URI.create("classpath:features/fast.feature")),
+                supplier.stream().get().map(Feature::getUri).toList());
+    }
+
+    private void index(Map<String, String> features) throws IOException {
+        PickleIndex.Builder builder = PickleIndex.builder();
+        features.forEach((resourceName, source) -> builder.addFeature(resourceName, source.getBytes(StandardCharsets.UTF_8)));
+        Path index = classPath.resolve(PickleIndex.RESOURCE_NAME);
+        Files.createDirectories(index.getParent());
+        Files.write(index, builder.build().orElseThrow());
+    }
+
+    private void write(Map<String, String> features) throws IOException {
+        for (Map.Entry<String, String> feature : features.entrySet()) {
+            Path file = classPath.resolve(feature.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, feature.getValue());
+        }
+    }
+
+    /**
+     * @return a supplier reading the index written to the class path, whose fallback supplies no features
+     */
+    private IndexedFeatureSupplier supplier(List<URI> featurePaths, Predicate<Pickle> filters) throws IOException {
+        ClassLoader classLoader = new URLClassLoader(new URL[] { classPath.toUri().toURL() }, null);
+        PickleIndex index = PickleIndex.load(classLoader).orElseThrow();
+        FeatureSupplier fallback = List::of;
+        return new IndexedFeatureSupplier(index, () -> classLoader, featurePaths, new FeatureParser(UUID::randomUUID),
+                filters, fallback);
+    }
+}
@@ -0,0 +1,151 @@
+package io.quarkiverse.cucumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.cucumber.core.backend.Backend;
+import io.cucumber.core.backend.CucumberBackendException;
+import io.cucumber.core.backend.Glue;
+import io.cucumber.core.backend.Lookup;
+import io.cucumber.core.backend.Snippet;
+import io.cucumber.core.backend.StepDefinition;
+import io.cucumber.java.en.Given;
+
+class IndexedJavaBackendTest {
+
+    private static final URI GLUE_PATH = URI.create("classpath:/io/quarkiverse/cucumber");
+    private static final String GIVEN = Given.class.getName();
+
+    private final List<StepDefinition> stepDefinitions = new ArrayList<>();
+    private final List<Class<?>> glueClasses = new ArrayList<>();
+    private final RecordingBackend fallback = new RecordingBackend();
+    private Glue glue;
+
+    @BeforeEach
+    void recordGlue() {
+        glue = (Glue) Proxy.newProxyInstance(Glue.class.getClassLoader(), new Class<?>[] { Glue.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("addStepDefinition")) {
+                        stepDefinitions.add((StepDefinition) args[0]);
+                    }
+                    return null;
+                });
+    }
+
+    @Test
+    void isTestedAgainstTheCucumberVersionInUse() {
+        // when Cucumber is upgraded, check that cucumber-java still has the GlueAdaptor used by the backend
+        assertTrue(IndexedJavaBackend.isSupported());
+        assertEquals(IndexedJavaBackend.TESTED_CUCUMBER_VERSION, IndexedJavaBackend.cucumberJavaVersion());
+    }
+
+    @Test
+    void registersTheGlueOfTheRegistry() {
+        backend(new GlueMethod(RegisteredSteps.class.getName(), "step", "()V", GIVEN)).loadGlue(glue, List.of(GLUE_PATH));
+
+        assertEquals(List.of("a registered step"), stepDefinitions.stream().map(StepDefinition::getPattern).toList());
+        assertEquals(List.of(RegisteredSteps.class), glueClasses);
+        assertEquals(List.of(), fallback.gluePaths);
+    }
+
+    @Test
+    void skipsTheGlueOutsideTheGluePackages() {
+        backend(new GlueMethod(RegisteredSteps.class.getName(), "step", "()V", GIVEN))
+                .loadGlue(glue, List.of(URI.create("classpath:/io/quarkiverse/cucumber/it")));
+
+        assertEquals(List.of(), stepDefinitions);
+        assertEquals(List.of(), fallback.gluePaths);
+    }
+
+    @Test
+    void rejectsGlueClassesInheritingGlueMethods() {
+        IndexedJavaBackend backend = backend(new GlueMethod(InheritingSteps.class.getName(), "step", "()V", GIVEN));
+
+        CucumberBackendException e = assertThrows(CucumberBackendException.class,
+                () -> backend.loadGlue(glue, List.of(GLUE_PATH)));
+
+        assertTrue(e.getMessage().startsWith("You're not allowed to extend classes that define Step Definitions or hooks."),
+                e.getMessage());
+        assertEquals(List.of(), fallback.gluePaths);
+    }
+
+    @Test
+    void scansTheGluePackagesForGluePathsOutsideTheClassPath() {
+        List<URI> gluePaths = List.of(GLUE_PATH, URI.create("file:/glue"));
+
+        backend(new GlueMethod(RegisteredSteps.class.getName(), "step", "()V", GIVEN)).loadGlue(glue, gluePaths);
+
+        assertEquals(List.of(), stepDefinitions);
+        assertEquals(gluePaths, fallback.gluePaths);
+    }
+
+    @Test
+    void scansTheGluePackagesIfTheRegisteredGlueCanNotBeLoaded() {
+        backend(new GlueMethod(RegisteredSteps.class.getName() + "Gone", "step", "()V", GIVEN))
+                .loadGlue(glue, List.of(GLUE_PATH));
+
+        assertEquals(List.of(), stepDefinitions);
+        assertEquals(List.of(GLUE_PATH), fallback.gluePaths);
+    }
+
+    private IndexedJavaBackend backend(GlueMethod... glueMethods) {
+        assertTrue(IndexedJavaBackend.isSupported());
+        Lookup lookup = new Lookup() {
+            @Override
+            public <T> T getInstance(Class<T> glueClass) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        return new IndexedJavaBackend(new GlueRegistry(List.of(glueMethods)), lookup, glueClasses::add,
+                IndexedJavaBackendTest.class::getClassLoader, fallback);
+    }
+
+    public static class RegisteredSteps {
+
+        @Given("a registered step")
+        public void step() {
+        }
+    }
+
+    public abstract static class AbstractSteps {
+
+        // not annotated, or the build would register InheritingSteps as well and BasicTest would fail
+        public void step() {
+        }
+    }
+
+    public static class InheritingSteps extends AbstractSteps {
+    }
+
+    private static final class RecordingBackend implements Backend {
+
+        private final List<URI> gluePaths = new ArrayList<>();
+
+        @Override
+        public void loadGlue(Glue glue, List<URI> gluePaths) {
+            this.gluePaths.addAll(gluePaths);
+        }
+
+        @Override
+        public void buildWorld() {
+        }
+
+        @Override
+        public void disposeWorld() {
+        }
+
+        @Override
+        public Snippet getSnippet() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.quarkiverse.cucumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.cucumber.core.backend.DefaultObjectFactory;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.runner.Runner;
+import io.cucumber.core.runtime.RunnerSupplier;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+
+class RunnerPoolTest {
+
+    private final EventBus bus = new TimeServiceEventBus(Clock.systemUTC(), UUID::randomUUID);
+    private final AtomicInteger created = new AtomicInteger();
+    private final RunnerPool pool = new RunnerPool();
+    private final RunnerSupplier runners = pool.supplier(() -> {
+        created.incrementAndGet();
+        return new Runner(new RunnerPool.RunnerEventBus(bus), List.of(), new DefaultObjectFactory(),
+                RuntimeOptions.defaultOptions());
+    });
+
+    @Test
+    void keepsTheRunnerUntilItIsCheckedIn() {
+        Runner runner = runners.get();
+
+        assertSame(runner, runners.get());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void reusesRunnersCheckedInByOtherThreads() throws Exception {
+        Runner first = CompletableFuture.supplyAsync(() -> {
+            Runner runner = runners.get();
+            pool.checkIn();
+            return runner;
+        }).get();
+
+        assertSame(first, runners.get());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void createsARunnerIfNoneIsIdle() throws Exception {
+        Runner first = runners.get();
+        Runner second = CompletableFuture.supplyAsync(runners::get).get();
+
+        assertNotSame(first, second);
+        assertEquals(2, created.get());
+    }
+
+    @Test
+    void passesTheEventsOfARunnerOnToTheSharedBus() {
+        AtomicInteger shared = new AtomicInteger();
+        AtomicInteger local = new AtomicInteger();
+        bus.registerHandlerFor(String.class, event -> shared.incrementAndGet());
+        EventBus runnerBus = runners.get().getBus();
+        runnerBus.registerHandlerFor(String.class, event -> local.incrementAndGet());
+
+        runnerBus.send("event");
+        bus.send("event");
+
+        assertEquals(2, shared.get());
+        assertEquals(1, local.get());
+    }
+}
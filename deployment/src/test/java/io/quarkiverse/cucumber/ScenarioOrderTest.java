@@ -0,0 +1,71 @@
+package io.quarkiverse.cucumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.options.RuntimeOptionsBuilder;
+import io.cucumber.core.order.PickleOrder;
+import io.cucumber.core.order.StandardPickleOrders;
+
+class ScenarioOrderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void runsTheLongestScenariosFirst() throws IOException {
+        ScenarioTimings timings = ScenarioTimings.read(List.of(ScenarioTimingsTest.report(directory.resolve("timing.json"),
+                Map.of(3, 800.0, 6, 600.0, 9, 400.0, 12, 200.0))));
+
+        // the scenario on line 15 was never timed and counts with the mean duration, 250ms
+        assertEquals(List.of(3, 6, 15, 9, 12), lines(order("longest-first", new RuntimeOptionsBuilder().build(), timings)));
+    }
+
+    @Test
+    void breaksTiesLexically() throws IOException {
+        ScenarioTimings timings = ScenarioTimings.read(List.of(ScenarioTimingsTest.report(directory.resolve("timing.json"),
+                Map.of(3, 200.0, 6, 200.0, 9, 800.0))));
+
+        // the scenarios on line 12 and 15 were never timed and count with the mean duration, 200ms
+        assertEquals(List.of(9, 12, 15, 3, 6), lines(order("longest-first", new RuntimeOptionsBuilder().build(), timings)));
+    }
+
+    @Test
+    void usesTheOrderOfTheRuntimeOptionsOtherwise() {
+        RuntimeOptions reverse = new RuntimeOptionsBuilder().setPickleOrder(StandardPickleOrders.reverseLexicalUriOrder())
+                .build();
+
+        assertEquals(List.of(15, 12, 9, 6, 3), lines(order("reverse", reverse, ScenarioTimings.read(List.of()))));
+    }
+
+    @Test
+    void removesLongestFirstFromTheCucumberProperties() {
+        assertEquals(Map.of("cucumber.glue", "com.example"), ScenarioOrder.withoutExtensions(
+                Map.of("cucumber.execution.order", "longest-first", "cucumber.glue", "com.example")));
+    }
+
+    private static PickleOrder order(String order, RuntimeOptions runtimeOptions, ScenarioTimings timings) {
+        try (TestConfig config = TestConfig.register(Map.of("quarkus.cucumber.execution.order", order))) {
+            return ScenarioOrder.of(runtimeOptions, timings);
+        }
+    }
+
+    /**
+     * @return the lines of the scenarios of {@link ScenarioTimingsTest#FEATURE} in the given order
+     */
+    private static List<Integer> lines(PickleOrder order) {
+        // starting from the lexical order
+        List<Pickle> pickles = new ArrayList<>(ScenarioTimingsTest.pickles());
+        return order.orderPickles(pickles).stream().map(pickle -> pickle.getLocation().getLine()).toList();
+    }
+}
@@ -0,0 +1,73 @@
+package io.quarkiverse.cucumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.cucumber.core.gherkin.Pickle;
+
+class ScenarioShardTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void runsAllScenariosWithoutShards() {
+        assertEquals(List.of(3, 6, 9, 12, 15), lines(shard(0, 1, timings())));
+    }
+
+    @Test
+    void splitsTheScenariosByTheHashOfTheirLocation() {
+        ScenarioTimings none = ScenarioTimings.read(List.of());
+
+        assertEquals(List.of(6, 15), lines(shard(0, 2, none)));
+        assertEquals(List.of(3, 9, 12), lines(shard(1, 2, none)));
+    }
+
+    @Test
+    void balancesTheScenariosByDuration() throws IOException {
+        // a scenario never timed counts with the mean duration, 250ms, so the longest first go to
+        // 3 -> shard 0 (400), 6 -> shard 1 (300), 15 -> shard 1 (550), 9 -> shard 0 (600), 12 -> shard 1 (650)
+        assertEquals(List.of(3, 9), lines(shard(0, 2, timings())));
+        assertEquals(List.of(6, 12, 15), lines(shard(1, 2, timings())));
+    }
+
+    @Test
+    void rejectsAShardOutsideTheTotal() {
+        assertThrows(IllegalArgumentException.class, () -> shard(2, 2, ScenarioTimings.read(List.of())));
+    }
+
+    private ScenarioTimings timings() {
+        try {
+            return ScenarioTimings.read(List.of(ScenarioTimingsTest.report(directory.resolve("timing.json"),
+                    Map.of(3, 800.0, 6, 600.0, 9, 400.0, 12, 200.0))));
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static ScenarioShard shard(int index, int total, ScenarioTimings timings) {
+        try (TestConfig config = TestConfig.register(Map.of(
+                "quarkus.cucumber.execution.shard.index", String.valueOf(index),
+                "quarkus.cucumber.execution.shard.total", String.valueOf(total)))) {
+            return ScenarioShard.of(timings);
+        }
+    }
+
+    /**
+     * @return the lines of the scenarios of {@link ScenarioTimingsTest#FEATURE} run by the shard
+     */
+    private static List<Integer> lines(ScenarioShard shard) {
+        List<Pickle> pickles = ScenarioTimingsTest.pickles();
+        Predicate<Pickle> selected = shard.select(pickles);
+        return pickles.stream().filter(selected).map(pickle -> pickle.getLocation().getLine()).toList();
+    }
+}
@@ -0,0 +1,103 @@
+package io.quarkiverse.cucumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.cucumber.core.gherkin.Pickle;
+
+class ScenarioTimingsTest {
+
+    static final String FEATURE = "Feature: Timed\n\n"
+            + "  Scenario: a\n    Given a step\n\n"
+            + "  Scenario: b\n    Given a step\n\n"
+            + "  Scenario: c\n    Given a step\n\n"
+            + "  Scenario: d\n    Given a step\n\n"
+            + "  Scenario: e\n    Given a step\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsTheMeanDurationOfEveryScenario() throws IOException {
+        ScenarioTimings timings = ScenarioTimings
+                .read(List.of(report(directory.resolve("timing.json"), Map.of(3, 800.0, 6, 300.0))));
+
+        assertEquals(OptionalDouble.of(400), timings.meanMillis(pickle(3)));
+        assertEquals(OptionalDouble.of(150), timings.meanMillis(pickle(6)));
+        assertEquals(OptionalDouble.empty(), timings.meanMillis(pickle(9)));
+        assertEquals(275, timings.meanMillis());
+    }
+
+    @Test
+    void addsUpTheReportsOfSeveralTestClasses() throws IOException {
+        ScenarioTimings timings = ScenarioTimings.read(List.of(
+                report(directory.resolve("first.json"), Map.of(3, 800.0)),
+                report(directory.resolve("second.json"), Map.of(3, 400.0))));
+
+        assertEquals(OptionalDouble.of(300), timings.meanMillis(pickle(3)));
+    }
+
+    @Test
+    void readsTheReportAsJson() throws IOException {
+        // no line per scenario, and names that look like entries
+        Path report = Files.writeString(directory.resolve("timing.json"), "{\"durationUnit\":\"ms\",\"steps\":[{\"name\":"
+                + "\"\\\"location\\\": \\\"classpath:features/timed.feature:6\\\", \\\"count\\\": 1, \\\"total\\\": 1.000\","
+                + "\"location\":\"Steps.step()\",\"count\":1,\"total\":5.000}],"
+                + "\"scenarios\":[{\"name\":\"a \\\"quoted\\\" \\u0061\",\"location\":\"classpath:features/timed.feature:3\","
+                + "\"count\":1,\"total\":12}]}");
+
+        ScenarioTimings timings = ScenarioTimings.read(List.of(report));
+
+        assertEquals(OptionalDouble.of(12), timings.meanMillis(pickle(3)));
+        assertEquals(OptionalDouble.empty(), timings.meanMillis(pickle(6)));
+    }
+
+    @Test
+    void ignoresReportsWithoutScenarios() throws IOException {
+        Path empty = Files.writeString(directory.resolve("empty.json"), "{\"durationUnit\": \"ms\", \"scenarios\": []}");
+        Path other = Files.writeString(directory.resolve("other.json"), "[\"not a timing report\"]");
+        Path truncated = Files.writeString(directory.resolve("truncated.json"), "{\"scenarios\": [{\"location\": \"");
+
+        assertTrue(ScenarioTimings.read(List.of(empty, other, truncated, directory.resolve("missing.json"))).isEmpty());
+    }
+
+    /**
+     * Writes a timing report like the {@link TimingFormatter}, timing each scenario of {@link #FEATURE} twice.
+     *
+     * @param totals the total duration of each timed scenario in milliseconds, by line
+     */
+    static Path report(Path file, Map<Integer, Double> totals) throws IOException {
+        StringBuilder report = new StringBuilder("{\n  \"durationUnit\": \"ms\",\n  \"scenarios\": [");
+        totals.forEach((line, total) -> report
+                .append(report.charAt(report.length() - 1) == '[' ? "\n    " : ",\n    ")
+                .append("{\"name\": \"scenario\", \"location\": \"classpath:features/timed.feature:").append(line)
+                .append("\", \"count\": 2, \"total\": ").append(TimingFormatter.millis((long) (total * 1_000_000)))
+                .append("}"));
+        report.append("\n  ]\n}\n");
+        return Files.writeString(file, report);
+    }
+
+    static Pickle pickle(int line) {
+        return pickles().stream().filter(pickle -> pickle.getLocation().getLine() == line).findFirst().orElseThrow();
+    }
+
+    /**
+     * @return the pickles of {@link #FEATURE}, on the lines 3, 6, 9, 12 and 15
+     */
+    static List<Pickle> pickles() {
+        return PickleIndex.builder()
+                .addFeature("features/timed.feature", FEATURE.getBytes(StandardCharsets.UTF_8))
+                .getFeatures().get("features/timed.feature").getPickles().orElseThrow();
+    }
+}
@@ -0,0 +1,78 @@
+package io.quarkiverse.cucumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.Test;
+
+import io.cucumber.core.feature.FeatureParser;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.resource.Resource;
+import io.cucumber.core.runtime.CucumberExecutionContext;
+import io.cucumber.core.runtime.ExitStatus;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+
+class StreamTestsTest {
+
+    private final FeatureParser parser = new FeatureParser(UUID::randomUUID);
+    private final List<String> parsed = new ArrayList<>();
+
+    @Test
+    void parsesAFeatureOnceTheTestsOfThePreviousOneWereBuilt() {
+        Stream<Feature> features = IntStream.rangeClosed(1, 3).mapToObj(this::parse);
+
+        // the tests are only built, never run
+        CucumberExecutionContext context = new CucumberExecutionContext(new TimeServiceEventBus(Clock.systemUTC(),
+                UUID::randomUUID), new ExitStatus(RuntimeOptions.defaultOptions()), () -> {
+                    throw new UnsupportedOperationException();
+                });
+        Iterator<? extends DynamicNode> tests = CucumberQuarkusTest.streamTests(context, features, pickle -> true, 0,
+                (feature, pickle) -> () -> null, () -> {
+                }).iterator();
+
+        assertEquals("Start Cucumber", tests.next().getDisplayName());
+        assertEquals("Before All Features", tests.next().getDisplayName());
+        assertEquals(List.of(), parsed);
+        for (int feature = 1; feature <= 3; feature++) {
+            DynamicContainer container = (DynamicContainer) tests.next();
+            assertEquals("Feature " + feature, container.getDisplayName());
+            assertEquals(List.of("Start Feature", "Scenario " + feature),
+                    container.getChildren().map(DynamicNode::getDisplayName).toList());
+            assertEquals(IntStream.rangeClosed(1, feature).mapToObj(i -> "Feature " + i).toList(), parsed);
+        }
+        assertEquals("After All Features", tests.next().getDisplayName());
+        assertEquals("Finish Cucumber", tests.next().getDisplayName());
+        assertFalse(tests.hasNext());
+    }
+
+    private Feature parse(int feature) {
+        String source = "Feature: Feature " + feature + "\n\n  Scenario: Scenario " + feature + "\n    Given a step\n";
+        parsed.add("Feature " + feature);
+        return parser.parseResource(new Resource() {
+            @Override
+            public URI getUri() {
+                return URI.create("classpath:features/" + feature + ".feature");
+            }
+
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8));
+            }
+        }).orElseThrow();
+    }
+}
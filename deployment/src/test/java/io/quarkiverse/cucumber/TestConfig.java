@@ -0,0 +1,45 @@
+package io.quarkiverse.cucumber;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Registers the Quarkus configuration read by the {@link CucumberPropertySources} for the current thread,
+ * independently of the configuration a Quarkus test may still have registered for the class loader of the
+ * tests.
+ */
+final class TestConfig implements AutoCloseable {
+
+    private final ClassLoader original = Thread.currentThread().getContextClassLoader();
+    private final SmallRyeConfig config;
+
+    private TestConfig(Map<String, String> properties, ClassLoader classLoader) {
+        config = new SmallRyeConfigBuilder()
+                .withMapping(CucumberRuntimeConfig.class)
+                .withSources(new PropertiesConfigSource(properties, "test", 500))
+                .build();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        ConfigProviderResolver.instance().registerConfig(config, classLoader);
+    }
+
+    static TestConfig register(Map<String, String> properties) {
+        return new TestConfig(properties, new URLClassLoader(new URL[0], Thread.currentThread().getContextClassLoader()));
+    }
+
+    static TestConfig register(Map<String, String> properties, ClassLoader classLoader) {
+        return new TestConfig(properties, classLoader);
+    }
+
+    @Override
+    public void close() {
+        ConfigProviderResolver.instance().releaseConfig(config);
+        Thread.currentThread().setContextClassLoader(original);
+    }
+}
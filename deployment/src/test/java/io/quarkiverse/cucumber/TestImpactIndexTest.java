@@ -0,0 +1,114 @@
+package io.quarkiverse.cucumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.cucumber.core.feature.FeatureWithLines;
+
+class TestImpactIndexTest {
+
+    static final String CART = "Feature: Cart\n\n"
+            + "  Scenario: add\n    Given 2 apples in the cart\n\n"
+            + "  Scenario: empty\n    Given an empty cart\n";
+    static final String STOCK = "@stock\nFeature: Stock\n\n"
+            + "  Scenario: restock\n    Given 2 apples in stock\n";
+
+    @TempDir
+    Path classPath;
+
+    private TestImpactIndex index;
+
+    @BeforeEach
+    void buildIndex() throws IOException {
+        index = load(classPath);
+    }
+
+    @Test
+    void selectsThePicklesOfAChangedGlueClass() {
+        assertEquals(Optional.of(List.of("classpath:features/cart.feature:3")),
+                impacted(List.of("com.example.CartSteps"), List.of()));
+    }
+
+    @Test
+    void selectsThePicklesOfTheGlueDependingOnAChangedClass() {
+        assertEquals(Optional.of(List.of("classpath:features/cart.feature:3")),
+                impacted(List.of("com.example.Cart$Item"), List.of()));
+    }
+
+    @Test
+    void selectsThePicklesOfTaggedHooks() {
+        assertEquals(Optional.of(List.of("classpath:features/stock.feature:4")),
+                impacted(List.of("com.example.StockHooks"), List.of()));
+    }
+
+    @Test
+    void mergesThePicklesOfAllChanges() {
+        assertEquals(Optional.of(List.of("classpath:features/cart.feature:3:6", "classpath:features/stock.feature")),
+                impacted(List.of("com.example.CartSteps$Line", "com.example.EmptyCartSteps"),
+                        List.of("features/stock.feature")));
+    }
+
+    @Test
+    void selectsAllPicklesOfAChangedFeature() {
+        assertEquals(Optional.of(List.of("classpath:features/stock.feature")),
+                impacted(List.of(), List.of("features/stock.feature")));
+    }
+
+    @Test
+    void selectsAllPicklesForGlobalGlue() {
+        assertEquals(Optional.empty(), impacted(List.of("com.example.Types"), List.of()));
+    }
+
+    @Test
+    void selectsAllPicklesForClassesNotInTheIndex() {
+        assertEquals(Optional.empty(), impacted(List.of("com.example.CartSteps", "com.example.CartResource"), List.of()));
+    }
+
+    @Test
+    void selectsNoPicklesWithoutChanges() {
+        assertEquals(Optional.of(List.of()), impacted(List.of(), List.of()));
+    }
+
+    private Optional<List<String>> impacted(List<String> changedClasses, List<String> changedFeatures) {
+        return index.impacted(changedClasses, changedFeatures)
+                .map(features -> features.stream().map(FeatureWithLines::toString).toList());
+    }
+
+    /**
+     * Writes an index of a cart and a stock feature to the given class path, and loads it.
+     */
+    static TestImpactIndex load(Path classPath) throws IOException {
+        PickleIndex.Builder features = PickleIndex.builder()
+                .addFeature("features/cart.feature", CART.getBytes(StandardCharsets.UTF_8))
+                .addFeature("features/stock.feature", STOCK.getBytes(StandardCharsets.UTF_8));
+        TestImpactIndex.Builder builder = TestImpactIndex.builder();
+        features.getFeatures().forEach((resourceName, feature) -> builder.addFeature(resourceName,
+                feature.getPickles().orElseThrow()));
+        builder.addStepDefinition("com.example.CartSteps", "{int} apples in the cart")
+                .addStepDefinition("com.example.EmptyCartSteps", "an empty cart")
+                .addStepDefinition("com.example.StockSteps", "{int} apples in stock")
+                .addHook("com.example.StockHooks", "@stock")
+                .addGlobalGlue("com.example.Types")
+                .addDependencies("com.example.CartSteps", List.of("com.example.Cart"));
+        Path resource = classPath.resolve(TestImpactIndex.RESOURCE_NAME);
+        Files.createDirectories(resource.getParent());
+        Files.write(resource, builder.build());
+        return TestImpactIndex.load(classLoader(classPath)).orElseThrow();
+    }
+
+    static ClassLoader classLoader(Path classPath) throws IOException {
+        return new URLClassLoader(new URL[] { classPath.toUri().toURL() }, null);
+    }
+}
@@ -0,0 +1,113 @@
+package io.quarkiverse.cucumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.cucumber.core.feature.FeatureWithLines;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.options.RuntimeOptionsBuilder;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+class TestImpactSelectionTest {
+
+    private static final URI CART = URI.create("classpath:features/cart.feature");
+    private static final URI STOCK = URI.create("classpath:features/stock.feature");
+
+    @TempDir
+    Path classPath;
+
+    private final ClassLoader original = Thread.currentThread().getContextClassLoader();
+    private ClassLoader classLoader;
+    private SmallRyeConfig config;
+
+    @BeforeEach
+    void writeIndex() throws IOException {
+        TestImpactIndexTest.load(classPath);
+        classLoader = TestImpactIndexTest.classLoader(classPath);
+        // the configuration of a Quarkus test may still be registered for the class loader of the tests
+        Thread.currentThread().setContextClassLoader(classLoader);
+    }
+
+    @AfterEach
+    void releaseConfig() {
+        if (config != null) {
+            ConfigProviderResolver.instance().releaseConfig(config);
+        }
+        Thread.currentThread().setContextClassLoader(original);
+    }
+
+    @Test
+    void selectsTheScenariosOfAChangedGlueSourceFile() {
+        RuntimeOptions selected = select("src/test/java/com/example/CartSteps.java");
+
+        assertEquals(List.of(CART), selected.getFeaturePaths());
+        assertEquals(Map.of(CART, Set.of(3)), selected.getLineFilters());
+    }
+
+    @Test
+    void selectsAllScenariosOfAChangedFeatureFile() {
+        RuntimeOptions selected = select("src/test/resources/features/stock.feature");
+
+        assertEquals(List.of(STOCK), selected.getFeaturePaths());
+        assertEquals(Map.of(), selected.getLineFilters());
+    }
+
+    @Test
+    void keepsTheRuntimeOptionsForAChangedClassNotInTheIndex() {
+        RuntimeOptions runtimeOptions = runtimeOptions();
+
+        assertSame(runtimeOptions, select(runtimeOptions, "com.example.CartSteps,com.example.CartResource"));
+    }
+
+    @Test
+    void keepsTheRuntimeOptionsForAChangedFileThatIsNeitherASourceNorAFeature() {
+        RuntimeOptions runtimeOptions = runtimeOptions();
+
+        assertSame(runtimeOptions, select(runtimeOptions, "src/main/resources/application.properties com.example.CartSteps"));
+    }
+
+    @Test
+    void selectsNoScenariosForAnEmptyListOfChanges() throws IOException {
+        Path changes = Files.createFile(classPath.resolve("changes.txt"));
+
+        RuntimeOptions selected = select("@" + changes);
+
+        assertEquals(List.of(), selected.getFeaturePaths());
+    }
+
+    private RuntimeOptions select(String changed) {
+        return select(runtimeOptions(), changed);
+    }
+
+    private RuntimeOptions select(RuntimeOptions runtimeOptions, String changed) {
+        config = new SmallRyeConfigBuilder()
+                .withMapping(CucumberRuntimeConfig.class)
+                .withSources(new PropertiesConfigSource(Map.of("quarkus.cucumber.execution.impact.changed", changed),
+                        "test", 500))
+                .build();
+        ConfigProviderResolver.instance().registerConfig(config, classLoader);
+        return TestImpactSelection.select(runtimeOptions, classLoader);
+    }
+
+    private static RuntimeOptions runtimeOptions() {
+        return new RuntimeOptionsBuilder()
+                .addFeature(FeatureWithLines.parse("classpath:features"))
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package io.quarkiverse.cucumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.HookType;
+import io.cucumber.plugin.event.Location;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.restassured.path.json.JsonPath;
+
+class TimingFormatterTest {
+
+    private static final URI FEATURE = URI.create("classpath:features/orders.feature");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesTheHistogramsOfTheRun() throws IOException {
+        Path report = directory.resolve("cucumber-timing.json");
+        TimeServiceEventBus bus = new TimeServiceEventBus(Clock.systemUTC(), UUID::randomUUID);
+        try (OutputStream out = Files.newOutputStream(report)) {
+            new TimingFormatter(out).setEventPublisher(bus);
+
+            TestCase placed = testCase("an order is placed", 3);
+            TestCase cancelled = testCase("an order is \"cancelled\"", 8);
+            TestStep place = stub(PickleStepTestStep.class, Map.of("getPattern", "an order of {int}",
+                    "getCodeLocation", "OrderSteps.place(int)"));
+            TestStep undefined = stub(PickleStepTestStep.class, Map.of("getCodeLocation", ""));
+            TestStep reset = stub(HookTestStep.class, Map.of("getHookType", HookType.BEFORE,
+                    "getCodeLocation", "OrderSteps.reset()"));
+            bus.send(new TestStepFinished(Instant.now(), placed, reset, passed(1)));
+            bus.send(new TestStepFinished(Instant.now(), placed, place, passed(20)));
+            bus.send(new TestCaseFinished(Instant.now(), placed, passed(21)));
+            bus.send(new TestStepFinished(Instant.now(), cancelled, place, passed(40)));
+            bus.send(new TestStepFinished(Instant.now(), cancelled, undefined, new Result(Status.UNDEFINED, Duration.ZERO,
+                    null)));
+            bus.send(new TestCaseFinished(Instant.now(), cancelled, passed(40)));
+            bus.send(new TestRunFinished(Instant.now(), passed(61)));
+        }
+
+        JsonPath json = JsonPath.from(report.toFile());
+        assertEquals("ms", json.getString("durationUnit"));
+        assertEquals(List.of("an order of {int}"), json.getList("steps.name"));
+        assertEquals(List.of(2), json.getList("steps.count"));
+        assertEquals(60.0, json.getDouble("steps[0].total"), 0.001);
+        assertEquals(20.0, json.getDouble("steps[0].p50"), 0.5);
+        assertEquals(40.0, json.getDouble("steps[0].max"), 0.001);
+        assertEquals(List.of("BEFORE"), json.getList("hooks.name"));
+        assertEquals(List.of("OrderSteps.reset()"), json.getList("hooks.location"));
+        // slowest first, names are escaped
+        assertEquals(List.of("an order is \"cancelled\"", "an order is placed"), json.getList("scenarios.name"));
+        assertEquals(List.of(FEATURE + ":8", FEATURE + ":3"), json.getList("scenarios.location"));
+        assertEquals(List.of(FEATURE.toString()), json.getList("features.location"));
+        assertEquals(List.of(2), json.getList("features.count"));
+        assertEquals(61.0, json.getDouble("features[0].total"), 0.001);
+    }
+
+    private static Result passed(long millis) {
+        return new Result(Status.PASSED, Duration.ofMillis(millis), null);
+    }
+
+    private static TestCase testCase(String name, int line) {
+        return stub(TestCase.class, Map.of("getName", name, "getUri", FEATURE, "getLocation", new Location(line, 3)));
+    }
+
+    private static <T> T stub(Class<T> type, Map<String, Object> values) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> values.get(method.getName())));
+    }
+}
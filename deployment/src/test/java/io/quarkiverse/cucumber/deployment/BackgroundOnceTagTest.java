@@ -0,0 +1,38 @@
+package io.quarkiverse.cucumber.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class BackgroundOnceTagTest {
+
+    private static final String TAG = "@background-once";
+
+    @Test
+    void findsTheTagOfTheFeature() {
+        assertTrue(isTagged("@slow @background-once\nFeature: Checkout\n"));
+    }
+
+    @Test
+    void findsTheTagOfAnyPartOfTheFeature() {
+        assertTrue(isTagged("Feature: Checkout\n\n  Rule: Carts\n\n    @background-once\n    Scenario: add\n"));
+    }
+
+    @Test
+    void ignoresTagsInCommentsAndText() {
+        assertFalse(isTagged("@slow # @background-once\nFeature: Checkout\n"));
+        assertFalse(isTagged("Feature: Checkout @background-once\n\n  Scenario: add\n    Given @background-once\n"));
+    }
+
+    @Test
+    void ignoresTagsStartingLikeIt() {
+        assertFalse(isTagged("@background-once-more\nFeature: Checkout\n"));
+    }
+
+    private static boolean isTagged(String source) {
+        return CucumberProcessor.isTagged(source.getBytes(StandardCharsets.UTF_8), TAG);
+    }
+}
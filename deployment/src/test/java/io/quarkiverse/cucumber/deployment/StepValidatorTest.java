@@ -0,0 +1,238 @@
+package io.quarkiverse.cucumber.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.cucumber.CucumberBuildTimeConfig.Severity;
+import io.quarkiverse.cucumber.CucumberBuildTimeConfig.StepValidationConfig;
+import io.quarkiverse.cucumber.CucumberOptions;
+import io.quarkiverse.cucumber.CucumberQuarkusTest;
+import io.quarkiverse.cucumber.PickleIndex;
+
+class StepValidatorTest {
+
+    private static final String CART = "Feature: Cart\n\n"
+            + "  Scenario: add\n    Given 2 apples in the cart\n    When the cart is checked out\n";
+    private static final String STOCK = "Feature: Stock\n\n"
+            + "  Scenario: restock\n    Given 2 apples in stock\n    When the cart is checked out\n";
+
+    private final StepValidator validator = new StepValidator();
+    private final Map<String, byte[]> sources = new HashMap<>();
+    private final PickleIndex.Builder features = PickleIndex.builder();
+
+    @Test
+    void reportsUndefinedStepsWithASnippet() {
+        feature("com/example/cart/cart.feature", CART);
+        validator.addStepDefinition("com.example.cart.CartSteps.apples(int)", "com.example.cart.CartSteps",
+                "{int} apples in the cart");
+
+        StepValidator.Findings findings = validate();
+
+        assertEquals(1, findings.undefined.size());
+        assertTrue(findings.undefined.get(0).startsWith("Undefined step \"When the cart is checked out\" at "
+                + "classpath:com/example/cart/cart.feature:5, implement it with:\n\n@When(\"the cart is checked out\")"),
+                findings.undefined.get(0));
+        assertEquals(List.of(), findings.ambiguous);
+        assertEquals(List.of(), findings.unused);
+        assertEquals(List.of(), findings.invalid);
+    }
+
+    @Test
+    void reportsAmbiguousSteps() {
+        feature("com/example/cart/cart.feature", CART);
+        validator.addStepDefinition("com.example.cart.CartSteps.apples(int)", "com.example.cart.CartSteps",
+                "{int} apples in the cart");
+        validator.addStepDefinition("com.example.cart.CartSteps.checkout()", "com.example.cart.CartSteps",
+                "the cart is checked out");
+        validator.addStepDefinition("com.example.cart.OtherSteps.checkout()", "com.example.cart.OtherSteps",
+                "the cart is {word} out");
+
+        StepValidator.Findings findings = validate();
+
+        assertEquals(List.of("Ambiguous step \"When the cart is checked out\" at classpath:com/example/cart/cart.feature:5"
+                + " matches com.example.cart.CartSteps.checkout() (\"the cart is checked out\"),"
+                + " com.example.cart.OtherSteps.checkout() (\"the cart is {word} out\")"), findings.ambiguous);
+        assertEquals(List.of(), findings.undefined);
+    }
+
+    @Test
+    void reportsUnusedStepDefinitions() {
+        feature("com/example/cart/cart.feature", CART);
+        validator.addStepDefinition("com.example.cart.CartSteps.apples(int)", "com.example.cart.CartSteps",
+                "{int} apples in the cart");
+        validator.addStepDefinition("com.example.cart.CartSteps.checkout()", "com.example.cart.CartSteps",
+                "the cart is checked out");
+        validator.addStepDefinition("com.example.cart.CartSteps.pears(int)", "com.example.cart.CartSteps",
+                "{int} pears in the cart");
+
+        StepValidator.Findings findings = validate();
+
+        assertEquals(List.of("Unused step definition com.example.cart.CartSteps.pears(int) (\"{int} pears in the cart\")"),
+                findings.unused);
+        assertEquals(List.of(), findings.undefined);
+    }
+
+    @Test
+    void reportsInvalidStepDefinitionsOnTheirOwn() {
+        feature("com/example/cart/cart.feature", CART);
+        validator.addStepDefinition("com.example.cart.CartSteps.apples(Fruit)", "com.example.cart.CartSteps",
+                "2 {fruit} in the cart");
+        validator.addParameterType("fruit", List.of("apples|pears"));
+        validator.addStepDefinition("com.example.cart.CartSteps.checkout(Cart)", "com.example.cart.CartSteps",
+                "the {cart} is checked out");
+
+        StepValidator.Findings findings = validate();
+
+        assertEquals(1, findings.invalid.size());
+        assertTrue(findings.invalid.get(0).startsWith("Step definition com.example.cart.CartSteps.checkout(Cart)"
+                + " (\"the {cart} is checked out\") can not match any step: "), findings.invalid.get(0));
+        // reported as undefined rather than unused, and only once
+        assertEquals(1, findings.undefined.size());
+        assertEquals(List.of(), findings.unused);
+    }
+
+    @Test
+    void matchesTheStepsOfAFeatureAgainstTheGlueOfTheTestClassesSelectingIt() {
+        feature("com/example/cart/cart.feature", CART);
+        feature("com/example/stock/stock.feature", STOCK);
+        validator.addTestClass(List.of("com.example.cart"), List.of("com/example/cart"));
+        validator.addTestClass(List.of("com.example.stock"), List.of("com/example/stock/stock.feature"));
+        validator.addStepDefinition("com.example.cart.CartSteps.apples(int)", "com.example.cart.CartSteps",
+                "{int} apples in the cart");
+        validator.addStepDefinition("com.example.stock.StockSteps.apples(int)", "com.example.stock.StockSteps",
+                "{int} apples in stock");
+        // the same step in both glue packages
+        validator.addStepDefinition("com.example.cart.CartSteps.checkout()", "com.example.cart.CartSteps",
+                "the cart is checked out");
+        validator.addStepDefinition("com.example.stock.StockSteps.checkout()", "com.example.stock.StockSteps",
+                "the cart is checked out");
+
+        StepValidator.Findings findings = validate();
+
+        assertEquals(List.of(), findings.ambiguous);
+        assertEquals(List.of(), findings.undefined);
+        assertEquals(List.of(), findings.unused);
+    }
+
+    @Test
+    void reportsTheStepsUndefinedInTheGlueOfOneTestClass() {
+        feature("com/example/cart/cart.feature", CART);
+        validator.addTestClass(List.of("com.example.cart"), List.of(""));
+        validator.addTestClass(List.of("com.example.stock"), List.of("com/example"));
+        validator.addStepDefinition("com.example.cart.CartSteps.apples(int)", "com.example.cart.CartSteps",
+                "{int} apples in the cart");
+        validator.addStepDefinition("com.example.cart.CartSteps.checkout()", "com.example.cart.CartSteps",
+                "the cart is checked out");
+
+        StepValidator.Findings findings = validate();
+
+        assertEquals(
+                List.of("Undefined step \"Given 2 apples in the cart\"", "Undefined step \"When the cart is checked out\""),
+                findings.undefined.stream().map(finding -> finding.substring(0, finding.indexOf(" at "))).toList());
+    }
+
+    @Test
+    void matchesFeaturesSelectedByNoTestClassAgainstAllGlue() {
+        feature("com/example/cart/cart.feature", CART);
+        validator.addTestClass(List.of("com.example.stock"), List.of("com/example/stock"));
+        validator.addStepDefinition("com.example.cart.CartSteps.apples(int)", "com.example.cart.CartSteps",
+                "{int} apples in the cart");
+        validator.addStepDefinition("com.example.other.OtherSteps.checkout()", "com.example.other.OtherSteps",
+                "the cart is checked out");
+
+        StepValidator.Findings findings = validate();
+
+        assertEquals(List.of(), findings.undefined);
+    }
+
+    @Test
+    void failsTheBuildOnlyForTheFindingsReportedAsFailures() {
+        StepValidator.Findings findings = new StepValidator.Findings();
+        findings.undefined.add("undefined");
+        findings.ambiguous.add("ambiguous");
+        findings.unused.add("unused");
+        findings.invalid.add("invalid");
+
+        assertEquals(List.of("undefined", "invalid"),
+                CucumberProcessor.report(config(Severity.FAIL, Severity.WARN, Severity.OFF, Severity.FAIL), findings));
+        assertEquals(List.of("ambiguous", "unused"),
+                CucumberProcessor.report(config(Severity.OFF, Severity.FAIL, Severity.FAIL, Severity.WARN), findings));
+    }
+
+    @Test
+    void resolvesTheGlueAndFeaturesOfTheTestClasses() throws IOException {
+        List<String> testClasses = new ArrayList<>();
+
+        CucumberProcessor.forEachTestClass(Index.of(CucumberQuarkusTest.class, DefaultOptions.class, Options.class,
+                InheritedOptions.class, WithoutOptions.class),
+                (gluePackages, featurePaths) -> testClasses.add(gluePackages + " " + featurePaths));
+
+        // the file path is not on the class path, and the run-time configuration is not known to the build
+        assertEquals(List.of(
+                "[] []",
+                "[com.example.cart, com.example.common] [com/example/cart/cart.feature, com/example/stock]",
+                "[com.example.cart, com.example.common] [com/example/cart/cart.feature, com/example/stock]",
+                "[io.quarkiverse.cucumber.deployment] [io/quarkiverse/cucumber/deployment]"),
+                testClasses.stream().sorted().toList());
+    }
+
+    private void feature(String resourceName, String source) {
+        byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+        features.addFeature(resourceName, bytes);
+        sources.put(resourceName, bytes);
+    }
+
+    private StepValidator.Findings validate() {
+        return validator.validate(features.getFeatures(), sources::get);
+    }
+
+    private static StepValidationConfig config(Severity undefined, Severity ambiguous, Severity unused,
+            Severity invalid) {
+        return new StepValidationConfig() {
+            @Override
+            public Severity undefined() {
+                return undefined;
+            }
+
+            @Override
+            public Severity ambiguous() {
+                return ambiguous;
+            }
+
+            @Override
+            public Severity unused() {
+                return unused;
+            }
+
+            @Override
+            public Severity invalid() {
+                return invalid;
+            }
+        };
+    }
+
+    @CucumberOptions
+    public static class DefaultOptions extends CucumberQuarkusTest {
+    }
+
+    @CucumberOptions(glue = "classpath:com/example/cart", extraGlue = "com.example.common", features = {
+            "classpath:com/example/cart/cart.feature:3", "classpath:/com/example/stock/", "src/test/resources/other" })
+    public static class Options extends CucumberQuarkusTest {
+    }
+
+    public static class InheritedOptions extends Options {
+    }
+
+    public static class WithoutOptions extends CucumberQuarkusTest {
+    }
+}
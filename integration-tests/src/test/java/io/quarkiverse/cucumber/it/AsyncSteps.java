@@ -0,0 +1,44 @@
+package io.quarkiverse.cucumber.it;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.smallrye.mutiny.Uni;
+
+public class AsyncSteps {
+
+    private static final Executor LATER = CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS);
+
+    private final List<String> events = new ArrayList<>();
+
+    @Given("a Uni records {string}")
+    public Uni<Void> uniRecords(String event) {
+        return Uni.createFrom().item(event)
+                .onItem().delayIt().by(Duration.ofMillis(50))
+                .invoke(events::add)
+                .replaceWithVoid();
+    }
+
+    @When("a CompletionStage records {string}")
+    public CompletionStage<String> completionStageRecords(String event) {
+        return CompletableFuture.supplyAsync(() -> {
+            events.add(event);
+            return event;
+        }, LATER);
+    }
+
+    @Then("the asynchronous steps recorded {string} and {string}")
+    public void recorded(String first, String second) {
+        assertEquals(List.of(first, second), events);
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkiverse.cucumber.it;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkiverse.cucumber.Restorable;
+import io.quarkiverse.cucumber.ScenarioScope;
+
+/**
+ * Scenario scoped fixture carried over from a Background that runs once.
+ */
+@ScenarioScope
+public class BackgroundCatalog implements Restorable<List<String>> {
+
+    private final List<String> products = new ArrayList<>();
+
+    public void add(String product) {
+        products.add(product);
+    }
+
+    public List<String> products() {
+        return products;
+    }
+
+    @Override
+    public List<String> snapshot() {
+        return List.copyOf(products);
+    }
+
+    @Override
+    public void restore(List<String> snapshot) {
+        products.addAll(snapshot);
+    }
+}
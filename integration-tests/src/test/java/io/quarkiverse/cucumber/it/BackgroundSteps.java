@@ -0,0 +1,49 @@
+package io.quarkiverse.cucumber.it;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+public class BackgroundSteps {
+
+    @Inject
+    BackgroundCatalog catalog;
+
+    @Inject
+    RecordingBackgroundSnapshot snapshot;
+
+    @Given("the catalog is seeded with {string} and {string}")
+    public void seeded(String first, String second) {
+        catalog.add(first);
+        catalog.add(second);
+    }
+
+    @When("the catalog gets {string}")
+    public void add(String product) {
+        catalog.add(product);
+    }
+
+    @Then("the catalog holds {string}")
+    public void holds(String products) {
+        assertEquals(List.of(products.split(",")), catalog.products());
+    }
+
+    @Then("the Background snapshot was taken")
+    public void taken() {
+        assertNotNull(snapshot.taken());
+        assertEquals(0, snapshot.restores());
+    }
+
+    @Then("the Background snapshot was restored")
+    public void restored() {
+        assertTrue(snapshot.restores() > 0, "the Background snapshot was not restored");
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkiverse.cucumber.it;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import jakarta.inject.Inject;
@@ -35,4 +36,12 @@ public class EventSteps {
                 .anyMatch(name -> name.contains("CDI events")),
                 "Expected scenario name to be captured in events");
     }
+
+    @Then("the after scenario event carried the elapsed time")
+    public void verifyElapsedTimeCaptured() {
+        assertFalse(observer.getElapsedTimes().isEmpty(),
+                "Expected at least one AfterScenario event to be fired");
+        observer.getElapsedTimes().forEach(elapsedTime -> assertNotNull(elapsedTime,
+                "Expected the elapsed time of the scenario in the AfterScenario event"));
+    }
 }
@@ -0,0 +1,31 @@
+package io.quarkiverse.cucumber.it;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+
+import io.quarkiverse.cucumber.FeatureScope;
+
+/**
+ * Fixture shared by the scenarios of a feature.
+ */
+@FeatureScope
+public class FeatureFixture {
+
+    static final AtomicInteger DESTROYED = new AtomicInteger();
+
+    private final AtomicInteger scenarios = new AtomicInteger();
+
+    public int countScenario() {
+        return scenarios.incrementAndGet();
+    }
+
+    public int scenarios() {
+        return scenarios.get();
+    }
+
+    @PreDestroy
+    void destroy() {
+        DESTROYED.incrementAndGet();
+    }
+}
@@ -0,0 +1,22 @@
+package io.quarkiverse.cucumber.it;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.Dependent;
+
+/**
+ * Dependent bean of the {@link PooledFixture}, which must live as long as the fixture it belongs to.
+ */
+@Dependent
+public class PooledDependency {
+
+    private volatile boolean destroyed;
+
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+
+    @PreDestroy
+    void destroy() {
+        destroyed = true;
+    }
+}
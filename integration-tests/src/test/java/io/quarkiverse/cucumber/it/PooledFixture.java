@@ -0,0 +1,44 @@
+package io.quarkiverse.cucumber.it;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import io.quarkiverse.cucumber.Resettable;
+import io.quarkiverse.cucumber.ScenarioScope;
+
+/**
+ * Scenario scoped fixture that is reset and reused by later scenarios.
+ */
+@ScenarioScope
+public class PooledFixture implements Resettable {
+
+    @Inject
+    PooledDependency dependency;
+
+    private final List<String> values = new ArrayList<>();
+    private int resets;
+
+    public void add(String value) {
+        values.add(value);
+    }
+
+    public List<String> values() {
+        return values;
+    }
+
+    public PooledDependency dependency() {
+        return dependency;
+    }
+
+    public int resets() {
+        return resets;
+    }
+
+    @Override
+    public void reset() {
+        values.clear();
+        resets++;
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkiverse.cucumber.it;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+
+public class PooledSteps {
+
+    @Inject
+    PooledFixture fixture;
+
+    @Given("the pooled fixture holds {string}")
+    public void holds(String value) {
+        fixture.add(value);
+    }
+
+    @Then("the pooled fixture holds only {string}")
+    public void holdsOnly(String value) {
+        assertEquals(List.of(value), fixture.values());
+    }
+
+    @Then("the pooled fixture was reused")
+    public void reused() {
+        assertTrue(fixture.resets() > 0, "the fixture of the previous scenario was not reused");
+    }
+
+    @Then("the dependency of the pooled fixture was kept")
+    public void dependencyKept() {
+        assertFalse(fixture.dependency().isDestroyed(), "the dependency of the reused fixture was destroyed");
+    }
+}
@@ -0,0 +1,39 @@
+package io.quarkiverse.cucumber.it;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkiverse.cucumber.BackgroundSnapshot;
+
+/**
+ * Records the snapshots of the Backgrounds that run once, in place of external state.
+ */
+@ApplicationScoped
+public class RecordingBackgroundSnapshot implements BackgroundSnapshot {
+
+    private volatile URI taken;
+    private final AtomicInteger restores = new AtomicInteger();
+
+    @Override
+    public void take(URI feature) {
+        taken = feature;
+        restores.set(0);
+    }
+
+    @Override
+    public void restore(URI feature) {
+        if (feature.equals(taken)) {
+            restores.incrementAndGet();
+        }
+    }
+
+    public URI taken() {
+        return taken;
+    }
+
+    public int restores() {
+        return restores.get();
+    }
+}
@@ -0,0 +1,22 @@
+package io.quarkiverse.cucumber.it;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkiverse.cucumber.RunScope;
+
+/**
+ * Fixture shared by all scenarios of a run.
+ */
+@RunScope
+public class RunFixture {
+
+    private final AtomicInteger scenarios = new AtomicInteger();
+
+    public int countScenario() {
+        return scenarios.incrementAndGet();
+    }
+
+    public int scenarios() {
+        return scenarios.get();
+    }
+}
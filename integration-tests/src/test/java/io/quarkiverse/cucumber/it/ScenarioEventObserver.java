@@ -1,5 +1,6 @@
 package io.quarkiverse.cucumber.it;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -18,6 +19,7 @@ public class ScenarioEventObserver {
 
     private final List<String> beforeEvents = new CopyOnWriteArrayList<>();
     private final List<String> afterEvents = new CopyOnWriteArrayList<>();
+    private final List<Duration> elapsedTimes = new CopyOnWriteArrayList<>();
 
     public void onBeforeScenario(@Observes @BeforeScenario ScenarioEvent event) {
         beforeEvents.add(event.getName());
@@ -25,6 +27,7 @@ public class ScenarioEventObserver {
 
     public void onAfterScenario(@Observes @AfterScenario ScenarioEvent event) {
         afterEvents.add(event.getName() + ":" + event.getStatus());
+        elapsedTimes.add(event.getElapsedTime());
     }
 
     public List<String> getBeforeEvents() {
@@ -35,8 +38,13 @@ public class ScenarioEventObserver {
         return afterEvents;
     }
 
+    public List<Duration> getElapsedTimes() {
+        return elapsedTimes;
+    }
+
     public void clear() {
         beforeEvents.clear();
         afterEvents.clear();
+        elapsedTimes.clear();
     }
 }
@@ -0,0 +1,50 @@
+package io.quarkiverse.cucumber.it;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.extension.DynamicTestInvocationContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * Records whether every scenario of a test class passed, failed or was skipped, so a test class expecting
+ * failed scenarios can check them in an after all method rather than failing the build.
+ * <p>
+ * Failures are recorded instead of reported, the after all method must check every outcome.
+ */
+public class ScenarioOutcomes implements InvocationInterceptor {
+
+    public static final String PASSED = "passed";
+    public static final String FAILED = "failed";
+    public static final String SKIPPED = "skipped";
+
+    private static final Map<String, String> OUTCOMES = new ConcurrentHashMap<>();
+
+    @Override
+    public void interceptDynamicTest(Invocation<Void> invocation, DynamicTestInvocationContext invocationContext,
+            ExtensionContext extensionContext) throws Throwable {
+        String name = extensionContext.getDisplayName();
+        try {
+            invocation.proceed();
+            OUTCOMES.put(name, PASSED);
+        } catch (TestAbortedException e) {
+            OUTCOMES.put(name, SKIPPED);
+            throw e;
+        } catch (Exception | AssertionError e) {
+            OUTCOMES.put(name, FAILED);
+        }
+    }
+
+    /**
+     * @return the outcome of every test run so far, by display name
+     */
+    public static Map<String, String> outcomes() {
+        return Map.copyOf(OUTCOMES);
+    }
+
+    public static void clear() {
+        OUTCOMES.clear();
+    }
+}
@@ -0,0 +1,39 @@
+package io.quarkiverse.cucumber.it;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Inject;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+
+public class SharedFixtureSteps {
+
+    @Inject
+    FeatureFixture featureFixture;
+
+    @Inject
+    RunFixture runFixture;
+
+    @Given("the shared fixtures count this scenario")
+    public void countScenario() {
+        featureFixture.countScenario();
+        runFixture.countScenario();
+    }
+
+    @Then("the feature fixture counted {int} scenario(s)")
+    public void featureFixtureCounted(int scenarios) {
+        assertEquals(scenarios, featureFixture.scenarios());
+    }
+
+    @Then("the run fixture counted at least {int} scenario(s)")
+    public void runFixtureCounted(int scenarios) {
+        assertTrue(runFixture.scenarios() >= scenarios);
+    }
+
+    @Then("a feature fixture was destroyed")
+    public void featureFixtureDestroyed() {
+        assertTrue(FeatureFixture.DESTROYED.get() > 0);
+    }
+}
@@ -0,0 +1,11 @@
+package io.quarkiverse.cucumber.it.budget;
+
+import io.quarkiverse.cucumber.CucumberOptions;
+import io.quarkiverse.cucumber.CucumberQuarkusTest;
+
+@CucumberOptions(glue = { "io.quarkiverse.cucumber.it" }, budget = "10s", timeout = "1m", maxFailures = 1)
+public class BudgetTest extends CucumberQuarkusTest {
+    public static void main(String[] args) {
+        runMain(BudgetTest.class, args);
+    }
+}
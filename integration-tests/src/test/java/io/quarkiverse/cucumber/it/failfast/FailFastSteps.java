@@ -0,0 +1,26 @@
+package io.quarkiverse.cucumber.it.failfast;
+
+import io.cucumber.java.en.Given;
+
+/**
+ * Fails a scenario on demand, every other test class runs it as a passing scenario.
+ */
+public class FailFastSteps {
+
+    private static volatile boolean failing;
+
+    @Given("the scenario fails if failures are enabled")
+    public void fails() {
+        if (failing) {
+            throw new AssertionError("Expected failure");
+        }
+    }
+
+    public static void enableFailures() {
+        failing = true;
+    }
+
+    public static void disableFailures() {
+        failing = false;
+    }
+}
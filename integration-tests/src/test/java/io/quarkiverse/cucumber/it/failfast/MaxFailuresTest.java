@@ -0,0 +1,46 @@
+package io.quarkiverse.cucumber.it.failfast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cucumber.CucumberOptions;
+import io.quarkiverse.cucumber.CucumberQuarkusTest;
+import io.quarkiverse.cucumber.it.ScenarioOutcomes;
+
+@CucumberOptions(glue = { "io.quarkiverse.cucumber.it" }, maxFailures = 1)
+public class MaxFailuresTest extends CucumberQuarkusTest {
+
+    @RegisterExtension
+    static final ScenarioOutcomes OUTCOMES = new ScenarioOutcomes();
+
+    @BeforeAll
+    public static void enableFailures() {
+        ScenarioOutcomes.clear();
+        FailFastSteps.enableFailures();
+    }
+
+    @AfterAll
+    public static void checkOutcomes() throws IOException {
+        FailFastSteps.disableFailures();
+        Map<String, String> outcomes = ScenarioOutcomes.outcomes();
+        assertEquals(ScenarioOutcomes.PASSED, outcomes.get("Scenario before the failure"));
+        assertEquals(ScenarioOutcomes.FAILED, outcomes.get("Scenario failing when enabled"));
+        assertEquals(ScenarioOutcomes.SKIPPED, outcomes.get("Scenario after the failure"));
+        assertEquals(ScenarioOutcomes.SKIPPED, outcomes.get("Another scenario after the failure"));
+        // the rerun directory is configured in application.properties
+        assertEquals("classpath:io/quarkiverse/cucumber/it/failfast/failfast.feature:6\n",
+                Files.readString(Path.of("target/cucumber-rerun", MaxFailuresTest.class.getName() + ".txt")));
+    }
+
+    public static void main(String[] args) {
+        runMain(MaxFailuresTest.class, args);
+    }
+}
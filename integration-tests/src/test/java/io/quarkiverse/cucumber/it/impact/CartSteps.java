@@ -0,0 +1,21 @@
+package io.quarkiverse.cucumber.it.impact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+
+public class CartSteps {
+
+    private int count;
+
+    @Given("{int} {word} are added to the cart")
+    public void add(int count, String fruit) {
+        this.count += count;
+    }
+
+    @Then("the cart holds {int} {word}")
+    public void holds(int count, String fruit) {
+        assertEquals(count, this.count);
+    }
+}
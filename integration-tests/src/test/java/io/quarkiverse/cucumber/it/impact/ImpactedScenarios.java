@@ -0,0 +1,28 @@
+package io.quarkiverse.cucumber.it.impact;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.quarkiverse.cucumber.it.ScenarioOutcomes;
+
+/**
+ * The scenarios of the impact features, which the test classes of this package expect to be selected.
+ */
+final class ImpactedScenarios {
+
+    static final String ADD_APPLES = "Add apples to the cart";
+    static final String ADD_PEARS = "Add pears to the cart";
+    static final String RESTOCK_APPLES = "Restock apples";
+
+    private ImpactedScenarios() {
+    }
+
+    /**
+     * @return the scenarios of the impact features run so far, without the before and after all nodes
+     */
+    static Set<String> run() {
+        return ScenarioOutcomes.outcomes().keySet().stream()
+                .filter(Set.of(ADD_APPLES, ADD_PEARS, RESTOCK_APPLES)::contains)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkiverse.cucumber.it.impact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cucumber.CucumberOptions;
+import io.quarkiverse.cucumber.CucumberQuarkusTest;
+import io.quarkiverse.cucumber.it.ScenarioOutcomes;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Runs no scenarios for an empty list of changes.
+ */
+@CucumberOptions(glue = { "io.quarkiverse.cucumber.it.impact" })
+@TestProfile(NoChangesTest.Changes.class)
+public class NoChangesTest extends CucumberQuarkusTest {
+
+    @RegisterExtension
+    static final ScenarioOutcomes OUTCOMES = new ScenarioOutcomes();
+
+    @BeforeAll
+    public static void clearOutcomes() {
+        ScenarioOutcomes.clear();
+    }
+
+    @AfterAll
+    public static void checkOutcomes() {
+        assertEquals(Set.of(), ImpactedScenarios.run());
+    }
+
+    public static class Changes implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.cucumber.execution.impact.changed",
+                    "@src/test/resources/io/quarkiverse/cucumber/it/impact/no-changes.txt");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkiverse.cucumber.it.impact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+
+public class StockSteps {
+
+    private int count;
+
+    @Given("{int} {word} are restocked")
+    public void restock(int count, String fruit) {
+        this.count += count;
+    }
+
+    @Then("the stock holds {int} {word}")
+    public void holds(int count, String fruit) {
+        assertEquals(count, this.count);
+    }
+}
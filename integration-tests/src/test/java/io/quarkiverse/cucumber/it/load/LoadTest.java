@@ -0,0 +1,11 @@
+package io.quarkiverse.cucumber.it.load;
+
+import io.quarkiverse.cucumber.CucumberOptions;
+import io.quarkiverse.cucumber.CucumberQuarkusTest;
+
+@CucumberOptions(glue = { "io.quarkiverse.cucumber.it" }, loadWorkers = 4, loadIterations = 10, budget = "10s")
+public class LoadTest extends CucumberQuarkusTest {
+    public static void main(String[] args) {
+        runMain(LoadTest.class, args);
+    }
+}
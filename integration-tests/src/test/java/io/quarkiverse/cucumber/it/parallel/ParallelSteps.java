@@ -0,0 +1,30 @@
+package io.quarkiverse.cucumber.it.parallel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+/**
+ * Scenario scoped steps, every scenario must only ever see its own value even when scenarios run concurrently.
+ */
+public class ParallelSteps {
+
+    private String value;
+
+    @Given("the worker remembers {string}")
+    public void remember(String value) {
+        this.value = value;
+    }
+
+    @When("the scenario takes {int} milliseconds")
+    public void takes(int millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    @Then("the worker still remembers {string}")
+    public void stillRemembers(String value) {
+        assertEquals(value, this.value);
+    }
+}
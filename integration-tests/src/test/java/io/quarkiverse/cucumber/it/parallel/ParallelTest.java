@@ -0,0 +1,12 @@
+package io.quarkiverse.cucumber.it.parallel;
+
+import io.quarkiverse.cucumber.CucumberOptions;
+import io.quarkiverse.cucumber.CucumberQuarkusTest;
+
+@CucumberOptions(glue = { "io.quarkiverse.cucumber.it" }, threads = 4, timeout = "1m", maxFailures = 1, plugin = {
+        "io.quarkiverse.cucumber.TimingFormatter:target/cucumber-timing.json" })
+public class ParallelTest extends CucumberQuarkusTest {
+    public static void main(String[] args) {
+        runMain(ParallelTest.class, args);
+    }
+}
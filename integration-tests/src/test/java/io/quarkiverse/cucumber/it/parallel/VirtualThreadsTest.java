@@ -0,0 +1,11 @@
+package io.quarkiverse.cucumber.it.parallel;
+
+import io.quarkiverse.cucumber.CucumberOptions;
+import io.quarkiverse.cucumber.CucumberQuarkusTest;
+
+@CucumberOptions(glue = { "io.quarkiverse.cucumber.it" }, threads = 16, virtualThreads = true, timeout = "1m")
+public class VirtualThreadsTest extends CucumberQuarkusTest {
+    public static void main(String[] args) {
+        runMain(VirtualThreadsTest.class, args);
+    }
+}
@@ -0,0 +1,63 @@
+package io.quarkiverse.cucumber.it.rerun;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cucumber.CucumberOptions;
+import io.quarkiverse.cucumber.CucumberQuarkusTest;
+import io.quarkiverse.cucumber.it.ScenarioOutcomes;
+import io.quarkiverse.cucumber.it.failfast.FailFastSteps;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Reruns the scenarios listed in the rerun file of the previous run, here written by hand. The failing
+ * scenario of the feature is not listed, so the test class passes only if the rerun file is read.
+ */
+@CucumberOptions(glue = { "io.quarkiverse.cucumber.it" })
+@TestProfile(RerunTest.FailedOnly.class)
+public class RerunTest extends CucumberQuarkusTest {
+
+    @RegisterExtension
+    static final ScenarioOutcomes OUTCOMES = new ScenarioOutcomes();
+
+    // the rerun directory is configured in application.properties
+    private static final Path RERUN_FILE = Path.of("target/cucumber-rerun", RerunTest.class.getName() + ".txt");
+
+    @BeforeAll
+    public static void recordPreviousRun() throws IOException {
+        ScenarioOutcomes.clear();
+        FailFastSteps.enableFailures();
+        Files.createDirectories(RERUN_FILE.getParent());
+        Files.writeString(RERUN_FILE, "classpath:io/quarkiverse/cucumber/it/failfast/failfast.feature:3:9\n");
+    }
+
+    @AfterAll
+    public static void checkOutcomes() throws IOException {
+        FailFastSteps.disableFailures();
+        Map<String, String> outcomes = ScenarioOutcomes.outcomes();
+        assertEquals(ScenarioOutcomes.PASSED, outcomes.get("Scenario before the failure"));
+        assertEquals(ScenarioOutcomes.PASSED, outcomes.get("Scenario after the failure"));
+        assertNull(outcomes.get("Scenario failing when enabled"));
+        assertNull(outcomes.get("Another scenario after the failure"));
+        // nothing failed this time
+        assertEquals("", Files.readString(RERUN_FILE));
+    }
+
+    public static class FailedOnly implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.cucumber.execution.rerun.failed", "true");
+        }
+    }
+}
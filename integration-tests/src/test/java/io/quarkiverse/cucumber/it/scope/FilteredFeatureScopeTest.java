@@ -0,0 +1,23 @@
+package io.quarkiverse.cucumber.it.scope;
+
+import org.junit.jupiter.api.BeforeAll;
+
+import io.quarkiverse.cucumber.CucumberOptions;
+import io.quarkiverse.cucumber.CucumberQuarkusTest;
+
+/**
+ * The last scenario of the first feature is filtered out by its tag, the fixture of the feature must
+ * still be destroyed before the second feature runs.
+ */
+@CucumberOptions(glue = { "io.quarkiverse.cucumber.it.scope" }, tags = "not @excluded")
+public class FilteredFeatureScopeTest extends CucumberQuarkusTest {
+
+    @BeforeAll
+    public static void clearFixtures() {
+        ScopedFixtureSteps.clear();
+    }
+
+    public static void main(String[] args) {
+        runMain(FilteredFeatureScopeTest.class, args);
+    }
+}
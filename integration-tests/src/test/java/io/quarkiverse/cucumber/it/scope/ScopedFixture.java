@@ -0,0 +1,28 @@
+package io.quarkiverse.cucumber.it.scope;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.annotation.PreDestroy;
+
+import io.quarkiverse.cucumber.FeatureScope;
+
+/**
+ * Fixture of a feature, remembering the features whose fixture was destroyed.
+ */
+@FeatureScope
+public class ScopedFixture {
+
+    static final List<String> DESTROYED = new CopyOnWriteArrayList<>();
+
+    private String feature;
+
+    public void feature(String feature) {
+        this.feature = feature;
+    }
+
+    @PreDestroy
+    void destroy() {
+        DESTROYED.add(feature);
+    }
+}
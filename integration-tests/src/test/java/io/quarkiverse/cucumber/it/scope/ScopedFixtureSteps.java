@@ -0,0 +1,28 @@
+package io.quarkiverse.cucumber.it.scope;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Inject;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+
+public class ScopedFixtureSteps {
+
+    @Inject
+    ScopedFixture fixture;
+
+    @Given("the scoped fixture of feature {string}")
+    public void fixtureOf(String feature) {
+        fixture.feature(feature);
+    }
+
+    @Then("the scoped fixture of feature {string} was destroyed")
+    public void fixtureDestroyed(String feature) {
+        assertTrue(ScopedFixture.DESTROYED.contains(feature), "Destroyed fixtures: " + ScopedFixture.DESTROYED);
+    }
+
+    public static void clear() {
+        ScopedFixture.DESTROYED.clear();
+    }
+}
@@ -0,0 +1,11 @@
+package io.quarkiverse.cucumber.it.streaming;
+
+import io.quarkiverse.cucumber.CucumberOptions;
+import io.quarkiverse.cucumber.CucumberQuarkusTest;
+
+@CucumberOptions(features = "classpath:/", glue = { "io.quarkiverse.cucumber.it" }, streaming = true)
+public class StreamingTest extends CucumberQuarkusTest {
+    public static void main(String[] args) {
+        runMain(StreamingTest.class, args);
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkiverse.cucumber.it.timeout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cucumber.CucumberOptions;
+import io.quarkiverse.cucumber.CucumberQuarkusTest;
+import io.quarkiverse.cucumber.it.ScenarioOutcomes;
+
+@CucumberOptions(glue = { "io.quarkiverse.cucumber.it" }, timeout = "500ms")
+public class HardTimeoutTest extends CucumberQuarkusTest {
+
+    @RegisterExtension
+    static final ScenarioOutcomes OUTCOMES = new ScenarioOutcomes();
+
+    @BeforeAll
+    public static void startSpinning() {
+        ScenarioOutcomes.clear();
+        TimeoutSteps.startSpinning();
+    }
+
+    @AfterAll
+    public static void checkOutcomes() {
+        TimeoutSteps.stopSpinning();
+        Map<String, String> outcomes = ScenarioOutcomes.outcomes();
+        assertEquals(ScenarioOutcomes.FAILED, outcomes.get("Scenario spinning when enabled"));
+        assertEquals(ScenarioOutcomes.PASSED, outcomes.get("Scenario after the abandoned one"));
+    }
+
+    public static void main(String[] args) {
+        runMain(HardTimeoutTest.class, args);
+    }
+}
@@ -0,0 +1,31 @@
+package io.quarkiverse.cucumber.it.timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import io.cucumber.java.en.When;
+
+/**
+ * Keeps a scenario busy without ever checking for an interrupt, like a step stuck in non-interruptible code,
+ * every other test class runs it as a passing step.
+ */
+public class TimeoutSteps {
+
+    private static volatile boolean spinning;
+
+    @When("the scenario spins ignoring interrupts if enabled")
+    public void spin() {
+        // bounded, so the abandoned thread does not spin forever if the test class never stops it
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while (spinning && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    public static void startSpinning() {
+        spinning = true;
+    }
+
+    public static void stopSpinning() {
+        spinning = false;
+    }
+}
@@ -0,0 +1,6 @@
+Feature: Asynchronous steps
+
+  Scenario: Steps returning a Uni or a CompletionStage complete before the next step
+    Given a Uni records "subscribed"
+    When a CompletionStage records "completed"
+    Then the asynchronous steps recorded "subscribed" and "completed"
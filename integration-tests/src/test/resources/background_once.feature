@@ -0,0 +1,18 @@
+@background-once
+Feature: Background run once
+
+  Background:
+    Given the shared fixtures count this scenario
+    And the catalog is seeded with "apple" and "pear"
+
+  Scenario: The first scenario runs the Background
+    Then the feature fixture counted 1 scenario
+    And the catalog holds "apple,pear"
+    And the Background snapshot was taken
+    When the catalog gets "plum"
+    Then the catalog holds "apple,pear,plum"
+
+  Scenario: Later scenarios restore the Background snapshot
+    Then the feature fixture counted 1 scenario
+    And the catalog holds "apple,pear"
+    And the Background snapshot was restored
@@ -5,3 +5,9 @@ Feature: Scenario lifecycle events
     Then the response is ok
     And the before scenario event was fired
     And the scenario name is captured in the event
+
+  Scenario: AfterScenario events carry the elapsed time
+    Given I call the endpoint
+    Then the response is ok
+    And the after scenario event was fired for previous scenario
+    And the after scenario event carried the elapsed time
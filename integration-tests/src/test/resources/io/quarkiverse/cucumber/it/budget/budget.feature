@@ -0,0 +1,13 @@
+@budget(30s)
+Feature: Scenario budgets
+
+  Scenario: Scenario within the budget of its feature
+    When the scenario takes 50 milliseconds
+    Then I call the endpoint
+    And the response is ok
+
+  @budget(20s)
+  Scenario: Scenario within its own budget
+    When the scenario takes 50 milliseconds
+    Then I call the endpoint
+    And the response is ok
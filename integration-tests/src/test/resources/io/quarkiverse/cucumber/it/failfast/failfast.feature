@@ -0,0 +1,13 @@
+Feature: Stop after too many failed scenarios
+
+  Scenario: Scenario before the failure
+    Given print "runs before the failure"
+
+  Scenario: Scenario failing when enabled
+    Given the scenario fails if failures are enabled
+
+  Scenario: Scenario after the failure
+    Given print "runs after the failure"
+
+  Scenario: Another scenario after the failure
+    Given print "runs after the failure as well"
@@ -0,0 +1,9 @@
+Feature: Impacted cart
+
+  Scenario: Add apples to the cart
+    Given 2 apples are added to the cart
+    Then the cart holds 2 apples
+
+  Scenario: Add pears to the cart
+    Given 3 pears are added to the cart
+    Then the cart holds 3 pears
@@ -0,0 +1,5 @@
+Feature: Impacted stock
+
+  Scenario: Restock apples
+    Given 5 apples are restocked
+    Then the stock holds 5 apples
@@ -0,0 +1,14 @@
+Feature: Load test
+
+  Scenario: Every replay keeps its own scenario state
+    Given the worker remembers "load"
+    When I call the endpoint
+    Then the response is ok
+    And the worker still remembers "load"
+
+  Scenario: A slower user flow
+    Given the worker remembers "slow"
+    When the scenario takes 20 milliseconds
+    And I call the endpoint
+    Then the response is ok
+    And the worker still remembers "slow"
@@ -0,0 +1,17 @@
+Feature: Parallel scenarios
+
+  Scenario Outline: Scenario state is isolated between workers
+    Given the worker remembers "<value>"
+    When the scenario takes 100 milliseconds
+    Then the worker still remembers "<value>"
+    And I call the endpoint
+    And the response is ok
+
+    Examples:
+      | value  |
+      | first  |
+      | second |
+      | third  |
+      | fourth |
+      | fifth  |
+      | sixth  |
@@ -0,0 +1,8 @@
+Feature: First feature with a scoped fixture
+
+  Scenario: The fixture of the first feature is created
+    Given the scoped fixture of feature "first"
+
+  @excluded
+  Scenario: The last scenario of the first feature is filtered out
+    Given the scoped fixture of feature "first"
@@ -0,0 +1,5 @@
+Feature: Second feature with a scoped fixture
+
+  Scenario: The fixture of the previous feature is gone
+    Given the scoped fixture of feature "second"
+    Then the scoped fixture of feature "first" was destroyed
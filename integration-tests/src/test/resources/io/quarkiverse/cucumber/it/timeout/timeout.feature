@@ -0,0 +1,8 @@
+Feature: Hard timeout
+
+  Scenario: Scenario spinning when enabled
+    When the scenario spins ignoring interrupts if enabled
+
+  Scenario: Scenario after the abandoned one
+    When I call the endpoint
+    Then the response is ok
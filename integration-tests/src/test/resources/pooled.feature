@@ -0,0 +1,11 @@
+Feature: Pooled scenario scoped beans
+
+  Scenario: A pooled fixture is filled
+    Given the pooled fixture holds "first"
+    Then the pooled fixture holds only "first"
+
+  Scenario: A pooled fixture is reset before it is reused
+    Given the pooled fixture holds "second"
+    Then the pooled fixture holds only "second"
+    And the pooled fixture was reused
+    And the dependency of the pooled fixture was kept
@@ -0,0 +1,11 @@
+Feature: Feature and run scoped fixtures
+
+  Scenario: The first scenario of a feature creates its fixture
+    Given the shared fixtures count this scenario
+    Then the feature fixture counted 1 scenario
+    And the run fixture counted at least 1 scenario
+
+  Scenario: Later scenarios of the feature share the fixture
+    Given the shared fixtures count this scenario
+    Then the feature fixture counted 2 scenarios
+    And the run fixture counted at least 2 scenarios
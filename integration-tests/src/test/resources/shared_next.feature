@@ -0,0 +1,7 @@
+Feature: Feature scoped fixtures of the next feature
+
+  Scenario: The next feature gets a fixture of its own
+    Given the shared fixtures count this scenario
+    Then the feature fixture counted 1 scenario
+    And a feature fixture was destroyed
+    And the run fixture counted at least 3 scenarios
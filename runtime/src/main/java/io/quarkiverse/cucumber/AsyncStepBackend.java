@@ -0,0 +1,331 @@
+package io.quarkiverse.cucumber;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import io.cucumber.core.backend.Backend;
+import io.cucumber.core.backend.CucumberBackendException;
+import io.cucumber.core.backend.CucumberInvocationTargetException;
+import io.cucumber.core.backend.DataTableTypeDefinition;
+import io.cucumber.core.backend.DefaultDataTableCellTransformerDefinition;
+import io.cucumber.core.backend.DefaultDataTableEntryTransformerDefinition;
+import io.cucumber.core.backend.DefaultParameterTransformerDefinition;
+import io.cucumber.core.backend.DocStringTypeDefinition;
+import io.cucumber.core.backend.Glue;
+import io.cucumber.core.backend.HookDefinition;
+import io.cucumber.core.backend.JavaMethodReference;
+import io.cucumber.core.backend.Lookup;
+import io.cucumber.core.backend.ParameterInfo;
+import io.cucumber.core.backend.ParameterTypeDefinition;
+import io.cucumber.core.backend.Snippet;
+import io.cucumber.core.backend.SourceReference;
+import io.cucumber.core.backend.StaticHookDefinition;
+import io.cucumber.core.backend.StepDefinition;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Backend waiting for step definitions returning a {@link Uni} or a {@link CompletionStage}.
+ * <p>
+ * cucumber-java ignores what a step method returns, so such a step would pass as soon as its pipeline is
+ * assembled. Their definitions are replaced by ones invoking the method and waiting for the result, which
+ * fails the step if it completes exceptionally or not within the step timeout from
+ * {@link CucumberOptions#stepTimeout()} or {@value #STEP_TIMEOUT_PROPERTY_NAME}. The waiting thread is
+ * parked rather than blocked on a monitor, so a virtual worker thread releases its carrier meanwhile.
+ */
+final class AsyncStepBackend implements Backend {
+
+    static final String STEP_TIMEOUT_PROPERTY_NAME = "cucumber.execution.step-timeout";
+
+    // step classes rarely declare asynchronous steps, every runner loading the glue checks a class once
+    private static final ClassValue<List<Method>> ASYNC_METHODS = new ClassValue<>() {
+        @Override
+        protected List<Method> computeValue(Class<?> type) {
+            return Arrays.stream(type.getMethods())
+                    .filter(method -> isAsync(method.getReturnType()))
+                    .toList();
+        }
+    };
+
+    private final Backend delegate;
+    private final Lookup lookup;
+    private final Supplier<ClassLoader> classLoader;
+    private final Duration timeout;
+
+    /**
+     * @param timeout how long an asynchronous step may take, or {@code null} to wait until it completes
+     */
+    AsyncStepBackend(Backend delegate, Lookup lookup, Supplier<ClassLoader> classLoader, Duration timeout) {
+        this.delegate = delegate;
+        this.lookup = lookup;
+        this.classLoader = classLoader;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Resolves the step timeout of a test class, a non-blank {@link CucumberOptions#stepTimeout()} winning
+     * over the Cucumber property sources.
+     *
+     * @return the step timeout, or {@code null} if there is none
+     */
+    static Duration stepTimeout(Class<? extends CucumberQuarkusTest> testClassWithCucumberOptions) {
+        Map<String, String> properties = CucumberPropertySources.get().properties();
+        String timeout = properties.get(STEP_TIMEOUT_PROPERTY_NAME);
+        if (testClassWithCucumberOptions != null) {
+            CucumberOptions options = testClassWithCucumberOptions.getAnnotation(CucumberOptions.class);
+            if (!options.stepTimeout().isBlank()) {
+                timeout = options.stepTimeout();
+            }
+        }
+        return ScenarioBudgets.parse(STEP_TIMEOUT_PROPERTY_NAME, timeout);
+    }
+
+    @Override
+    public void loadGlue(Glue glue, List<URI> gluePaths) {
+        delegate.loadGlue(new AwaitingGlue(glue), gluePaths);
+    }
+
+    @Override
+    public void buildWorld() {
+        delegate.buildWorld();
+    }
+
+    @Override
+    public void disposeWorld() {
+        delegate.disposeWorld();
+    }
+
+    @Override
+    public Snippet getSnippet() {
+        return delegate.getSnippet();
+    }
+
+    private static boolean isAsync(Class<?> returnType) {
+        return Uni.class.isAssignableFrom(returnType) || CompletionStage.class.isAssignableFrom(returnType);
+    }
+
+    /**
+     * The method of a step definition, if it returns a {@link Uni} or a {@link CompletionStage}.
+     */
+    private Optional<Method> asyncMethod(StepDefinition stepDefinition) {
+        SourceReference sourceReference = stepDefinition.getSourceReference().orElse(null);
+        if (!(sourceReference instanceof JavaMethodReference reference)) {
+            return Optional.empty();
+        }
+        Class<?> declaringClass;
+        try {
+            declaringClass = Class.forName(reference.className(), false, classLoader.get());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+        for (Method method : ASYNC_METHODS.get(declaringClass)) {
+            if (method.getName().equals(reference.methodName())
+                    && Arrays.stream(method.getParameterTypes()).map(Class::getName).toList()
+                            .equals(reference.methodParameterTypes())) {
+                return Optional.of(method);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Glue replacing the asynchronous step definitions, and passing everything else on unchanged.
+     */
+    private final class AwaitingGlue implements Glue {
+
+        private final Glue glue;
+
+        AwaitingGlue(Glue glue) {
+            this.glue = glue;
+        }
+
+        @Override
+        public void addStepDefinition(StepDefinition stepDefinition) {
+            Optional<Method> method = asyncMethod(stepDefinition);
+            glue.addStepDefinition(method.isPresent() ? new AsyncStepDefinition(stepDefinition, method.get())
+                    : stepDefinition);
+        }
+
+        @Override
+        public void addBeforeAllHook(StaticHookDefinition beforeAllHook) {
+            glue.addBeforeAllHook(beforeAllHook);
+        }
+
+        @Override
+        public void addAfterAllHook(StaticHookDefinition afterAllHook) {
+            glue.addAfterAllHook(afterAllHook);
+        }
+
+        @Override
+        public void addBeforeHook(HookDefinition beforeHook) {
+            glue.addBeforeHook(beforeHook);
+        }
+
+        @Override
+        public void addAfterHook(HookDefinition afterHook) {
+            glue.addAfterHook(afterHook);
+        }
+
+        @Override
+        public void addBeforeStepHook(HookDefinition beforeStepHook) {
+            glue.addBeforeStepHook(beforeStepHook);
+        }
+
+        @Override
+        public void addAfterStepHook(HookDefinition afterStepHook) {
+            glue.addAfterStepHook(afterStepHook);
+        }
+
+        @Override
+        public void addParameterType(ParameterTypeDefinition parameterType) {
+            glue.addParameterType(parameterType);
+        }
+
+        @Override
+        public void addDataTableType(DataTableTypeDefinition dataTableType) {
+            glue.addDataTableType(dataTableType);
+        }
+
+        @Override
+        public void addDefaultParameterTransformer(DefaultParameterTransformerDefinition defaultParameterTransformer) {
+            glue.addDefaultParameterTransformer(defaultParameterTransformer);
+        }
+
+        @Override
+        public void addDefaultDataTableEntryTransformer(
+                DefaultDataTableEntryTransformerDefinition defaultDataTableEntryTransformer) {
+            glue.addDefaultDataTableEntryTransformer(defaultDataTableEntryTransformer);
+        }
+
+        @Override
+        public void addDefaultDataTableCellTransformer(
+                DefaultDataTableCellTransformerDefinition defaultDataTableCellTransformer) {
+            glue.addDefaultDataTableCellTransformer(defaultDataTableCellTransformer);
+        }
+
+        @Override
+        public void addDocStringType(DocStringTypeDefinition docStringType) {
+            glue.addDocStringType(docStringType);
+        }
+    }
+
+    /**
+     * Step definition invoking its method and waiting for the returned result.
+     */
+    private final class AsyncStepDefinition implements StepDefinition {
+
+        private final StepDefinition delegate;
+        private final Method method;
+
+        AsyncStepDefinition(StepDefinition delegate, Method method) {
+            this.delegate = delegate;
+            this.method = method;
+        }
+
+        @Override
+        public void execute(Object[] args) {
+            Object target = Modifier.isStatic(method.getModifiers()) ? null
+                    : lookup.getInstance(method.getDeclaringClass());
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                throw new CucumberBackendException("Failed to invoke " + method, e);
+            } catch (InvocationTargetException e) {
+                throw new CucumberInvocationTargetException(this, e);
+            }
+            if (result == null) {
+                throw failure(new IllegalStateException(
+                        "Step " + getLocation() + " returned null instead of a " + method.getReturnType().getSimpleName()));
+            }
+            await(result);
+        }
+
+        private void await(Object result) {
+            CompletableFuture<?> future = result instanceof Uni<?> uni ? uni.subscribeAsCompletionStage()
+                    : completion((CompletionStage<?>) result);
+            try {
+                if (timeout == null) {
+                    future.get();
+                } else {
+                    future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+                }
+            } catch (ExecutionException e) {
+                throw failure(unwrap(e.getCause()));
+            } catch (TimeoutException e) {
+                // cancels the subscription of a Uni, a CompletionStage of the step is left alone
+                future.cancel(true);
+                throw failure(new TimeoutException(
+                        "Step " + getLocation() + " did not complete within " + ScenarioBudgets.format(timeout)));
+            } catch (InterruptedException e) {
+                // most likely the hard timeout of the scenario
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                throw failure(e);
+            }
+        }
+
+        private CompletableFuture<Object> completion(CompletionStage<?> stage) {
+            // a CompletionStage may not support toCompletableFuture(), and cancelling it is up to the step
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            stage.whenComplete((value, failure) -> {
+                if (failure != null) {
+                    future.completeExceptionally(failure);
+                } else {
+                    future.complete(value);
+                }
+            });
+            return future;
+        }
+
+        private Throwable unwrap(Throwable failure) {
+            while (failure instanceof CompletionException && failure.getCause() != null) {
+                failure = failure.getCause();
+            }
+            return failure;
+        }
+
+        private CucumberInvocationTargetException failure(Throwable cause) {
+            // reported by Cucumber exactly like an exception thrown by the step method
+            return new CucumberInvocationTargetException(this, new InvocationTargetException(cause));
+        }
+
+        @Override
+        public List<ParameterInfo> parameterInfos() {
+            return delegate.parameterInfos();
+        }
+
+        @Override
+        public String getPattern() {
+            return delegate.getPattern();
+        }
+
+        @Override
+        public boolean isDefinedAt(StackTraceElement stackTraceElement) {
+            return delegate.isDefinedAt(stackTraceElement);
+        }
+
+        @Override
+        public String getLocation() {
+            return delegate.getLocation();
+        }
+
+        @Override
+        public Optional<SourceReference> getSourceReference() {
+            return delegate.getSourceReference();
+        }
+    }
+}
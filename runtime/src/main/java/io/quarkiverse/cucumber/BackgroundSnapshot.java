@@ -0,0 +1,61 @@
+package io.quarkiverse.cucumber;
+
+import java.net.URI;
+
+/**
+ * Snapshots and restores state outside of the CDI container, such as database rows, for features tagged
+ * {@code @background-once}.
+ * <p>
+ * Implement it as a bean, every bean implementing it takes part:
+ *
+ * <pre>
+ * &#64;ApplicationScoped
+ * public class DatabaseSnapshot implements BackgroundSnapshot {
+ *     &#64;Inject
+ *     TestDatabase database;
+ *
+ *     &#64;Override
+ *     public void take(URI feature) {
+ *         database.savepoint("background");
+ *     }
+ *
+ *     &#64;Override
+ *     public void restore(URI feature) {
+ *         database.rollbackTo("background");
+ *     }
+ *
+ *     &#64;Override
+ *     public void discard(URI feature) {
+ *         database.release("background");
+ *     }
+ * }
+ * </pre>
+ *
+ * The methods are called on the thread running the scenario, within the scenario, so {@link ScenarioScope}
+ * beans are available to {@link #take(URI)} and {@link #restore(URI)}. When scenarios run in parallel, the
+ * scenarios of a feature restore the snapshot concurrently.
+ */
+public interface BackgroundSnapshot {
+
+    /**
+     * Called once the Background of a feature ran, by the scenario that ran it.
+     *
+     * @param feature the URI of the feature file
+     */
+    void take(URI feature);
+
+    /**
+     * Called before every later scenario of the feature starts its own steps, in place of the Background.
+     *
+     * @param feature the URI of the feature file
+     */
+    void restore(URI feature);
+
+    /**
+     * Called once the last scenario of the feature ran, if a snapshot was taken.
+     *
+     * @param feature the URI of the feature file
+     */
+    default void discard(URI feature) {
+    }
+}
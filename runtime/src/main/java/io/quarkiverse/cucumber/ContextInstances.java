@@ -0,0 +1,120 @@
+package io.quarkiverse.cucumber;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
+import io.quarkus.arc.impl.LazyValue;
+
+/**
+ * The bean instances of one scenario, feature or run, safe to use from the threads of concurrently running
+ * scenarios. Every instance is created exactly once, concurrent callers for the same bean wait for it.
+ */
+final class ContextInstances {
+
+    /**
+     * Provides the instance of a bean that has none in this storage yet.
+     */
+    interface InstanceFactory {
+
+        <T> ContextInstanceHandle<T> create(Contextual<T> contextual, CreationalContext<T> creationalContext);
+    }
+
+    private final ConcurrentMap<Contextual<?>, LazyValue<ContextInstanceHandle<?>>> instances = new ConcurrentHashMap<>();
+    private final InstanceFactory factory;
+
+    /**
+     * Creates a storage whose beans are created on first use.
+     */
+    ContextInstances() {
+        this(ContextInstances::newInstance);
+    }
+
+    /**
+     * @param factory provides the instances of beans on first use, e.g. from a pool
+     */
+    ContextInstances(InstanceFactory factory) {
+        this.factory = factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ContextInstanceHandle<T> newInstance(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        return new ContextInstanceHandleImpl<>((InjectableBean<T>) contextual, contextual.create(creationalContext),
+                creationalContext);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        var instance = instances.get(contextual);
+        if (instance == null) {
+            if (creationalContext == null) {
+                return null;
+            }
+            // only the holder is created under the map's lock, the bean itself is created outside of it
+            instance = instances.computeIfAbsent(contextual,
+                    c -> new LazyValue<>(() -> factory.create(contextual, creationalContext)));
+        } else if (creationalContext == null) {
+            var contextInstanceHandle = instance.getIfPresent();
+            return contextInstanceHandle == null ? null : (T) contextInstanceHandle.get();
+        }
+        try {
+            // exactly one caller creates the instance, concurrent callers for the same bean wait for it
+            return (T) instance.get().get();
+        } catch (RuntimeException | Error e) {
+            // let the next caller try again with its own creational context
+            instances.remove(contextual, instance);
+            throw e;
+        }
+    }
+
+    void destroy(Contextual<?> contextual) {
+        var instance = instances.remove(contextual);
+        if (instance != null && instance.isSet()) {
+            instance.get().destroy();
+        }
+    }
+
+    void destroy() {
+        destroy(ContextInstanceHandle::destroy);
+    }
+
+    /**
+     * Removes all instances, handing the ones that were created to {@code release} rather than destroying
+     * them.
+     */
+    void destroy(Consumer<ContextInstanceHandle<?>> release) {
+        for (var contextual : instances.keySet()) {
+            var instance = instances.remove(contextual);
+            if (instance != null && instance.isSet()) {
+                release.accept(instance.get());
+            }
+        }
+    }
+
+    InjectableContext.ContextState state() {
+        return new State(instances);
+    }
+
+    private record State(Map<Contextual<?>, LazyValue<ContextInstanceHandle<?>>> instances)
+            implements
+                InjectableContext.ContextState {
+
+        @Override
+        public Map<InjectableBean<?>, Object> getContextualInstances() {
+            return instances.values().stream()
+                    .map(LazyValue::getIfPresent)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.quarkiverse.cucumber;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Build time configuration of the Cucumber extension.
+ */
+@ConfigMapping(prefix = "quarkus.cucumber")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface CucumberBuildTimeConfig {
+
+    /**
+     * Pickle index configuration.
+     */
+    PickleIndexConfig pickleIndex();
+
+    /**
+     * Glue registry configuration.
+     */
+    GlueRegistryConfig glueRegistry();
+
+    /**
+     * Test impact index configuration.
+     */
+    TestImpactConfig testImpact();
+
+    /**
+     * Step validation configuration.
+     */
+    StepValidationConfig stepValidation();
+
+    interface PickleIndexConfig {
+
+        /**
+         * Whether feature files are parsed at build time into an index of their scenarios.
+         * <p>
+         * The index lets the tests find the feature files without scanning the class path. Only feature
+         * files whose scenarios are all filtered out, by tags, names or lines, are not parsed again when
+         * the tests start, every other feature file still is, so a run without filters saves the class
+         * path scan only.
+         */
+        @WithDefault("true")
+        boolean enabled();
+    }
+
+    interface GlueRegistryConfig {
+
+        /**
+         * Whether step definitions and hooks are collected at build time into a registry of glue methods.
+         * <p>
+         * The registry lets the tests register the glue without scanning the glue packages on the class
+         * path and without looking for Cucumber annotations on every public method of every class found there.
+         */
+        @WithDefault("true")
+        boolean enabled();
+    }
+
+    interface TestImpactConfig {
+
+        /**
+         * Whether the scenarios using every glue class and its CDI dependencies are indexed at build time.
+         * <p>
+         * The index lets the tests run only the scenarios affected by the classes listed in
+         * {@code quarkus.cucumber.execution.impact.changed}.
+         */
+        @WithDefault("true")
+        boolean enabled();
+    }
+
+    interface StepValidationConfig {
+
+        /**
+         * How steps matching no step definition are reported, with a snippet to implement them.
+         */
+        @WithDefault("warn")
+        Severity undefined();
+
+        /**
+         * How steps matching more than one step definition are reported.
+         */
+        @WithDefault("warn")
+        Severity ambiguous();
+
+        /**
+         * How step definitions matching no step are reported.
+         */
+        @WithDefault("warn")
+        Severity unused();
+
+        /**
+         * How step definitions whose expression can not be parsed are reported, e.g. because they use an
+         * unknown parameter type.
+         */
+        @WithDefault("warn")
+        Severity invalid();
+    }
+
+    enum Severity {
+        /**
+         * Not reported.
+         */
+        OFF,
+        /**
+         * Logged as a warning during the build.
+         */
+        WARN,
+        /**
+         * Fails the build.
+         */
+        FAIL
+    }
+}
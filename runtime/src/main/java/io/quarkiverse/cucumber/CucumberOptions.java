@@ -126,4 +126,129 @@ public @interface CucumberOptions {
      */
     Class<? extends ObjectFactory> objectFactory() default CucumberQuarkusTest.CdiObjectFactory.class;
 
+    /**
+     * Number of worker threads used to run scenarios in parallel.
+     * <p>
+     * All workers share the single Quarkus application booted for the test
+     * class, each worker has its own Cucumber runner and scenario state.
+     * When zero or negative the {@code cucumber.execution.parallel.enabled}
+     * and {@code cucumber.execution.parallel.config.fixed.parallelism}
+     * properties decide, by default scenarios run one after another.
+     *
+     * @return the number of scenario workers
+     */
+    int threads() default 0;
+
+    /**
+     * Runs the scenario workers of parallel mode on virtual threads.
+     * <p>
+     * With mostly I/O bound steps, {@link #threads()} can then be much
+     * higher than the number of processors, e.g. a few hundred, without as
+     * many platform threads. Virtual threads pinned to their carrier
+     * thread are reported. Needs Java 21 or later, platform threads are
+     * used otherwise. When false the
+     * {@code cucumber.execution.parallel.virtual-threads} property decides.
+     *
+     * @return true to run the scenario workers on virtual threads
+     */
+    boolean virtualThreads() default false;
+
+    /**
+     * Time budget of every scenario without a {@code @budget(...)} tag, e.g.
+     * {@code 2s} or {@code 500ms}.
+     * <p>
+     * A scenario taking longer fails once it has finished, or only logs a
+     * warning when {@code cucumber.execution.budget.exceeded} is
+     * {@code warn}. When empty the {@code cucumber.execution.budget}
+     * property decides, by default scenarios have no budget.
+     *
+     * @return the default scenario budget
+     */
+    String budget() default "";
+
+    /**
+     * Hard timeout of every scenario, e.g. {@code 5m}.
+     * <p>
+     * A scenario taking longer is interrupted and fails, instead of
+     * blocking the run. When empty the {@code cucumber.execution.timeout}
+     * property decides, by default scenarios never time out.
+     *
+     * @return the scenario timeout
+     */
+    String timeout() default "";
+
+    /**
+     * Timeout of every step returning a {@code Uni} or a
+     * {@code CompletionStage}, e.g. {@code 10s}.
+     * <p>
+     * Such a step fails if its result is not there in time. When empty
+     * the {@code cucumber.execution.step-timeout} property decides, by
+     * default the step waits until its result completes.
+     *
+     * @return the timeout of asynchronous steps
+     */
+    String stepTimeout() default "";
+
+    /**
+     * Number of failed scenarios after which the remaining scenarios are
+     * skipped instead of run.
+     * <p>
+     * The after all hooks and plugins still run as usual. When zero or
+     * negative the {@code cucumber.execution.max-failures} property
+     * decides, by default all scenarios run.
+     *
+     * @return the maximum number of failed scenarios
+     */
+    int maxFailures() default 0;
+
+    /**
+     * Builds the scenario tests while they run, parsing a feature only
+     * once the previous one finished and releasing its scenarios once
+     * they ran, for suites too large to hold in memory at once.
+     * <p>
+     * Only applies when scenarios run one after another, in lexical
+     * order and without sharding. When false the
+     * {@code cucumber.execution.streaming} property decides, by default
+     * all tests are built before the first scenario runs.
+     *
+     * @return true to build the scenario tests while they run
+     */
+    boolean streaming() default false;
+
+    /**
+     * Number of workers replaying the selected scenarios at once, as a
+     * load test of the application.
+     * <p>
+     * The scenarios are replayed until every one ran
+     * {@link #loadIterations()} times or {@link #loadDuration()} elapsed,
+     * then the throughput and latency percentiles of every scenario and
+     * step are reported. When zero or negative the
+     * {@code cucumber.execution.load.workers} property decides, by default
+     * every scenario runs once.
+     *
+     * @return the number of load test workers
+     */
+    int loadWorkers() default 0;
+
+    /**
+     * How long a load test replays the scenarios at most, e.g. {@code 30s}.
+     * <p>
+     * When empty the {@code cucumber.execution.load.duration} property
+     * decides.
+     *
+     * @return the maximum duration of a load test
+     */
+    String loadDuration() default "";
+
+    /**
+     * How often a load test replays every scenario at most.
+     * <p>
+     * When zero or negative the {@code cucumber.execution.load.iterations}
+     * property decides, every scenario runs once if no duration is set
+     * either.
+     *
+     * @return the maximum number of runs of every scenario
+     */
+    int loadIterations() default 0;
+
 }
@@ -0,0 +1,153 @@
+package io.quarkiverse.cucumber;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import io.cucumber.core.options.Constants;
+import io.cucumber.core.options.CucumberProperties;
+import io.cucumber.core.options.CucumberPropertiesParser;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.options.RuntimeOptionsBuilder;
+import io.smallrye.config.SmallRyeConfig;
+
+/**
+ * The sources of Cucumber properties, each parsed once.
+ * <p>
+ * From lowest to highest precedence: {@link CucumberRuntimeConfig}, {@code cucumber.properties},
+ * environment variables and system properties. Parsing a source yields a {@link RuntimeOptionsBuilder}
+ * that is applied on top of the previous ones, exactly as when every source is parsed again.
+ * <p>
+ * The sources are cached for the configuration of the running application, so an application started
+ * later, e.g. for a test class with another test profile, parses its own.
+ */
+final class CucumberPropertySources {
+
+    private static volatile CucumberPropertySources cached;
+
+    // weak, the cache must not keep the configuration of a stopped application alive
+    private final WeakReference<Config> config;
+    private final Map<String, String> properties;
+    private final List<RuntimeOptionsBuilder> layers;
+
+    private CucumberPropertySources(Config config, List<Map<String, String>> sources) {
+        this.config = new WeakReference<>(config);
+        Map<String, String> merged = new HashMap<>();
+        sources.forEach(merged::putAll);
+        this.properties = Map.copyOf(merged);
+        this.layers = sources.stream()
+                .map(source -> new CucumberPropertiesParser().parse(ScenarioOrder.withoutExtensions(source)))
+                .toList();
+    }
+
+    /**
+     * @return the property sources, parsed on first use by the running application
+     */
+    static CucumberPropertySources get() {
+        Config config = ConfigProvider.getConfig();
+        CucumberPropertySources sources = cached;
+        if (sources == null || sources.config.get() != config) {
+            synchronized (CucumberPropertySources.class) {
+                sources = cached;
+                if (sources == null || sources.config.get() != config) {
+                    cached = sources = load(config);
+                }
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Parses the property sources again, without caching them.
+     */
+    static CucumberPropertySources load() {
+        return load(ConfigProvider.getConfig());
+    }
+
+    private static CucumberPropertySources load(Config config) {
+        return new CucumberPropertySources(config, List.of(
+                fromQuarkusConfig(config),
+                CucumberProperties.fromPropertiesFile(),
+                CucumberProperties.fromEnvironment(),
+                CucumberProperties.fromSystemProperties()));
+    }
+
+    /**
+     * @return new runtime options built from all sources
+     */
+    RuntimeOptions runtimeOptions() {
+        RuntimeOptions runtimeOptions = RuntimeOptions.defaultOptions();
+        for (RuntimeOptionsBuilder layer : layers) {
+            runtimeOptions = layer.build(runtimeOptions);
+        }
+        return runtimeOptions;
+    }
+
+    /**
+     * @return all Cucumber properties, the value of the source with the highest precedence winning
+     */
+    Map<String, String> properties() {
+        return properties;
+    }
+
+    private static Map<String, String> fromQuarkusConfig(Config quarkusConfig) {
+        CucumberRuntimeConfig config;
+        try {
+            config = quarkusConfig.unwrap(SmallRyeConfig.class).getConfigMapping(CucumberRuntimeConfig.class);
+        } catch (NoSuchElementException | IllegalArgumentException e) {
+            // not running inside a Quarkus application, e.g. in runMain
+            return Map.of();
+        }
+        Map<String, String> properties = new HashMap<>();
+        config.features().ifPresent(v -> properties.put(Constants.FEATURES_PROPERTY_NAME, String.join(",", v)));
+        config.glue().ifPresent(v -> properties.put(Constants.GLUE_PROPERTY_NAME, String.join(",", v)));
+        config.plugin().ifPresent(v -> properties.put(Constants.PLUGIN_PROPERTY_NAME, String.join(",", v)));
+        config.monochrome().ifPresent(v -> properties.put(Constants.ANSI_COLORS_DISABLED_PROPERTY_NAME, v.toString()));
+        config.snippetType().ifPresent(
+                v -> properties.put(Constants.SNIPPET_TYPE_PROPERTY_NAME, v.name().toLowerCase(Locale.ROOT)));
+        config.filter().tags().ifPresent(v -> properties.put(Constants.FILTER_TAGS_PROPERTY_NAME, v));
+        config.filter().name().ifPresent(v -> properties.put(Constants.FILTER_NAME_PROPERTY_NAME, v));
+        config.execution().dryRun().ifPresent(v -> properties.put(Constants.EXECUTION_DRY_RUN_PROPERTY_NAME, v.toString()));
+        config.execution().limit().ifPresent(v -> properties.put(Constants.EXECUTION_LIMIT_PROPERTY_NAME, v.toString()));
+        config.execution().order().ifPresent(v -> properties.put(Constants.EXECUTION_ORDER_PROPERTY_NAME, v));
+        config.execution().wip().ifPresent(v -> properties.put(Constants.WIP_PROPERTY_NAME, v.toString()));
+        config.execution().budget().ifPresent(v -> properties.put(ScenarioBudgets.BUDGET_PROPERTY_NAME, v.toString()));
+        config.execution().budgetExceeded().ifPresent(v -> properties.put(ScenarioBudgets.BUDGET_EXCEEDED_PROPERTY_NAME,
+                v.name().toLowerCase(Locale.ROOT)));
+        config.execution().timeout().ifPresent(v -> properties.put(ScenarioBudgets.TIMEOUT_PROPERTY_NAME, v.toString()));
+        config.execution().stepTimeout().ifPresent(
+                v -> properties.put(AsyncStepBackend.STEP_TIMEOUT_PROPERTY_NAME, v.toString()));
+        config.execution().maxFailures().ifPresent(
+                v -> properties.put(CucumberQuarkusTest.MAX_FAILURES_PROPERTY_NAME, v.toString()));
+        config.execution().streaming().ifPresent(
+                v -> properties.put(CucumberQuarkusTest.STREAMING_PROPERTY_NAME, v.toString()));
+        config.execution().rerun().directory().ifPresent(v -> properties.put(RerunFile.DIRECTORY_PROPERTY_NAME, v));
+        config.execution().rerun().failed().ifPresent(v -> properties.put(RerunFile.FAILED_PROPERTY_NAME, v.toString()));
+        config.execution().impact().changed().ifPresent(
+                v -> properties.put(TestImpactSelection.CHANGED_PROPERTY_NAME, String.join(",", v)));
+        config.execution().shard().index().ifPresent(v -> properties.put(ScenarioShard.INDEX_PROPERTY_NAME, v.toString()));
+        config.execution().shard().total().ifPresent(v -> properties.put(ScenarioShard.TOTAL_PROPERTY_NAME, v.toString()));
+        config.execution().timings().ifPresent(
+                v -> properties.put(ScenarioTimings.TIMINGS_PROPERTY_NAME, String.join(",", v)));
+        config.execution().load().workers().ifPresent(
+                v -> properties.put(ScenarioLoad.WORKERS_PROPERTY_NAME, v.toString()));
+        config.execution().load().duration().ifPresent(
+                v -> properties.put(ScenarioLoad.DURATION_PROPERTY_NAME, v.toString()));
+        config.execution().load().iterations().ifPresent(
+                v -> properties.put(ScenarioLoad.ITERATIONS_PROPERTY_NAME, v.toString()));
+        config.execution().load().report().ifPresent(v -> properties.put(ScenarioLoad.REPORT_PROPERTY_NAME, v));
+        config.execution().parallel().enabled().ifPresent(
+                v -> properties.put(CucumberQuarkusTest.PARALLEL_ENABLED_PROPERTY_NAME, v.toString()));
+        config.execution().parallel().threads().ifPresent(
+                v -> properties.put(CucumberQuarkusTest.PARALLEL_FIXED_PARALLELISM_PROPERTY_NAME, v.toString()));
+        config.execution().parallel().virtualThreads().ifPresent(
+                v -> properties.put(CucumberQuarkusTest.PARALLEL_VIRTUAL_THREADS_PROPERTY_NAME, v.toString()));
+        return properties;
+    }
+}
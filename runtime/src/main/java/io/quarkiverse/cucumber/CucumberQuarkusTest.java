@@ -2,105 +2,137 @@ package io.quarkiverse.cucumber;
 
 import java.net.URI;
 import java.time.Clock;
-import java.util.Collections;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import jakarta.enterprise.inject.Instance;
-import jakarta.enterprise.inject.spi.CDI;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
 
+import org.jboss.logging.Logger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DynamicContainer;
 import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.function.Executable;
 import org.junit.platform.console.ConsoleLauncher;
+import org.opentest4j.TestAbortedException;
 
+import io.cucumber.core.backend.Backend;
 import io.cucumber.core.backend.ObjectFactory;
 import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.feature.FeatureParser;
 import io.cucumber.core.filter.Filters;
+import io.cucumber.core.gherkin.Feature;
 import io.cucumber.core.gherkin.Pickle;
 import io.cucumber.core.options.CommandlineOptionsParser;
 import io.cucumber.core.options.Constants;
 import io.cucumber.core.options.CucumberOptionsAnnotationParser;
-import io.cucumber.core.options.CucumberProperties;
-import io.cucumber.core.options.CucumberPropertiesParser;
 import io.cucumber.core.options.RuntimeOptions;
 import io.cucumber.core.options.RuntimeOptionsBuilder;
+import io.cucumber.core.order.PickleOrder;
 import io.cucumber.core.plugin.Options;
 import io.cucumber.core.plugin.PluginFactory;
 import io.cucumber.core.plugin.Plugins;
 import io.cucumber.core.plugin.PrettyFormatter;
 import io.cucumber.core.runner.Runner;
+import io.cucumber.core.runtime.BackendSupplier;
 import io.cucumber.core.runtime.CucumberExecutionContext;
 import io.cucumber.core.runtime.ExitStatus;
 import io.cucumber.core.runtime.FeaturePathFeatureSupplier;
 import io.cucumber.core.runtime.FeatureSupplier;
 import io.cucumber.core.runtime.ObjectFactorySupplier;
+import io.cucumber.core.runtime.SynchronizedEventBus;
+import io.cucumber.core.runtime.ThreadLocalRunnerSupplier;
 import io.cucumber.core.runtime.TimeServiceEventBus;
 import io.cucumber.java.JavaBackendProviderService;
-import io.cucumber.plugin.event.EventHandler;
 import io.cucumber.plugin.event.PickleStepTestStep;
-import io.cucumber.plugin.event.Status;
-import io.cucumber.plugin.event.TestCaseFinished;
-import io.cucumber.plugin.event.TestCaseStarted;
 import io.cucumber.plugin.event.TestStep;
 import io.cucumber.plugin.event.TestStepFinished;
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableInstance;
 import io.quarkus.test.junit.QuarkusTest;
 
 @QuarkusTest
 public abstract class CucumberQuarkusTest {
 
-    @TestFactory
-    List<DynamicNode> getTests() {
-        EventBus eventBus = new TimeServiceEventBus(Clock.systemUTC(), UUID::randomUUID);
-        final FeatureParser parser = new FeatureParser(eventBus::generateId);
+    static final String PARALLEL_ENABLED_PROPERTY_NAME = "cucumber.execution.parallel.enabled";
+    static final String PARALLEL_FIXED_PARALLELISM_PROPERTY_NAME = "cucumber.execution.parallel.config.fixed.parallelism";
+    static final String MAX_FAILURES_PROPERTY_NAME = "cucumber.execution.max-failures";
+    static final String STREAMING_PROPERTY_NAME = "cucumber.execution.streaming";
+    static final String PARALLEL_VIRTUAL_THREADS_PROPERTY_NAME = "cucumber.execution.parallel.virtual-threads";
 
-        RuntimeOptions propertiesFileOptions = new CucumberPropertiesParser()
-                .parse(CucumberProperties.fromPropertiesFile())
-                .build();
+    private static final Logger LOG = Logger.getLogger(CucumberQuarkusTest.class);
 
-        RuntimeOptions environmentOptions = new CucumberPropertiesParser()
-                .parse(CucumberProperties.fromEnvironment())
-                .build(propertiesFileOptions);
+    // options are built once per test class, not for every test factory invocation
+    private static final ConcurrentMap<Class<?>, TestClassOptions> OPTIONS = new ConcurrentHashMap<>();
 
-        RuntimeOptions systemOptions = new CucumberPropertiesParser()
-                .parse(CucumberProperties.fromSystemProperties())
-                .build(environmentOptions);
+    @TestFactory
+    Stream<DynamicNode> getTests() {
+        EventBus eventBus = new TimeServiceEventBus(Clock.systemUTC(), UUID::randomUUID);
+        final FeatureParser parser = new FeatureParser(eventBus::generateId);
 
-        RuntimeOptions runtimeOptions;
-        RuntimeOptionsBuilder runtimeOptionsBuilder = new RuntimeOptionsBuilder()
-                .addDefaultFeaturePathIfAbsent()
-                .addDefaultGlueIfAbsent()
-                .addDefaultSummaryPrinterIfNotDisabled();
+        TestClassOptions options = OPTIONS.computeIfAbsent(getClass(), testClass -> {
+            Class<? extends CucumberQuarkusTest> annotated = findCucumberOptionAnnotatedClassSkippingProxies();
+            RerunFile rerunFile = RerunFile.of(testClass);
+            RuntimeOptions selected = TestImpactSelection.select(rerunFile.select(runtimeOptions(annotated)),
+                    Thread.currentThread().getContextClassLoader());
+            ScenarioLoad load = ScenarioLoad.of(annotated);
+            if (load.isEnabled()) {
+                // every load test worker gets its own runner
+                selected = new RuntimeOptionsBuilder().setThreads(load.workers()).build(selected);
+            }
+            ScenarioTimings timings = ScenarioTimings.of();
+            ScenarioShard shard = ScenarioShard.of(timings);
+            return new TestClassOptions(selected, ScenarioBudgets.of(annotated), maxFailures(annotated), rerunFile,
+                    shard, ScenarioOrder.of(selected, timings), streaming(annotated, selected, shard, load), load,
+                    virtualThreads(annotated), AsyncStepBackend.stepTimeout(annotated));
+        });
+        RuntimeOptions runtimeOptions = options.runtimeOptions();
+        ScenarioBudgets budgets = options.budgets();
 
-        QuarkusCucumberOptionsProvider optionsProvider = new QuarkusCucumberOptionsProvider();
-        final Class<? extends CucumberQuarkusTest> testClassWithCucumberOptions = findCucumberOptionAnnotatedClassSkippingProxies();
-        if (testClassWithCucumberOptions != null) {
-            CucumberOptionsAnnotationParser annotationParser = new CucumberOptionsAnnotationParser()
-                    .withOptionsProvider(optionsProvider);
-            RuntimeOptions annotationOptions = annotationParser
-                    .parse(testClassWithCucumberOptions)
-                    .build(systemOptions);
-            runtimeOptions = runtimeOptionsBuilder.build(annotationOptions);
-        } else {
-            runtimeOptions = runtimeOptionsBuilder.build(systemOptions);
+        if (runtimeOptions.isMultiThreaded()) {
+            // plugins, the execution context and every worker runner share this bus
+            eventBus = SynchronizedEventBus.synchronize(eventBus);
         }
 
-        FeatureSupplier featureSupplier = new FeaturePathFeatureSupplier(
-                () -> Thread.currentThread().getContextClassLoader(),
-                runtimeOptions, parser);
+        Supplier<ClassLoader> classLoader = () -> Thread.currentThread().getContextClassLoader();
+        Predicate<Pickle> filters = new Filters(runtimeOptions);
+        FeatureSupplier featureSupplier = new FeaturePathFeatureSupplier(classLoader, runtimeOptions, parser);
+        Optional<PickleIndex> pickleIndex = PickleIndex.load(classLoader.get());
+        if (pickleIndex.isPresent()) {
+            featureSupplier = new IndexedFeatureSupplier(pickleIndex.get(), classLoader, runtimeOptions.getFeaturePaths(),
+                    parser, filters, featureSupplier);
+        }
 
         final Plugins plugins = new Plugins(new PluginFactory(), runtimeOptions);
-        plugins.addPlugin(new PrettyFormatter(System.out));
+        if (!options.load().isEnabled()) {
+            // a load test reports its own summary rather than every scenario run
+            plugins.addPlugin(new PrettyFormatter(System.out));
+        }
 
         final ExitStatus exitStatus = new ExitStatus(runtimeOptions);
         plugins.addPlugin(exitStatus);
@@ -109,82 +141,293 @@ public abstract class CucumberQuarkusTest {
         } else {
             plugins.setEventBusOnEventListenerPlugins(eventBus);
         }
-        CucumberExecutionContext context = cucumberExecutionContext(eventBus, runtimeOptions, exitStatus);
-
-        List<DynamicNode> features = new LinkedList<>();
-        features.add(DynamicTest.dynamicTest("Start Cucumber", context::startTestRun));
-        features.add(DynamicTest.dynamicTest("Before All Features", context::runBeforeAllHooks));
+        ParallelPickleExecutor parallelExecutor = runtimeOptions.isMultiThreaded() && !options.load().isEnabled()
+                ? new ParallelPickleExecutor(runtimeOptions.getThreads(), options.virtualThreads())
+                : null;
+        RunnerPool runners = parallelExecutor == null ? null : parallelExecutor.runners();
+        boolean backgroundsOnce = FeatureBackgrounds.isEnabled();
+        CucumberExecutionContext context = cucumberExecutionContext(eventBus, runtimeOptions, exitStatus,
+                options.stepTimeout(), backgroundsOnce, runners);
+        if (options.load().isEnabled()) {
+            options.load().listen(eventBus);
+        }
 
-        Predicate<Pickle> filters = new Filters(runtimeOptions);
+        ScenarioEventDispatcher dispatcher = new ScenarioEventDispatcher(backgroundsOnce);
 
-        EventHandler<TestCaseStarted> scenarioStartedHandler = event -> {
-            fireScenarioEvent(new ScenarioEvent(event.getTestCase()), BeforeScenario.Literal.INSTANCE);
-        };
+        FailFast failFast = new FailFast(options.maxFailures());
+        Set<Pickle> failedPickles = ConcurrentHashMap.newKeySet();
+        BiFunction<Feature, Pickle, Callable<Void>> scenario = (f, p) -> () -> failFast.run(() -> {
+            try {
+                PickleResult result = budgets.run(p, () -> {
+                    try {
+                        return dispatcher.runPickle(context, p);
+                    } finally {
+                        if (runners != null) {
+                            // handed back by the thread that ran the scenario, before its worker releases the
+                            // permit, so no more runners are created than there are permits
+                            runners.checkIn();
+                        }
+                    }
+                });
+                verify(f, p, result);
+                budgets.check(p, result);
+            } catch (Exception | Error e) {
+                failedPickles.add(p);
+                throw e;
+            }
+            return null;
+        });
 
-        EventHandler<TestCaseFinished> scenarioFinishedHandler = event -> {
-            fireScenarioEvent(
-                    new ScenarioEvent(event.getTestCase(), event.getResult().getStatus()),
-                    AfterScenario.Literal.INSTANCE);
-            var scenarioContext = Arc.container().getActiveContext(ScenarioScope.class);
-            if (scenarioContext != null) {
-                scenarioContext.destroy();
+        if (options.streaming()) {
+            Stream<Feature> lazyFeatures = featureSupplier instanceof IndexedFeatureSupplier indexed
+                    ? indexed.stream().orElse(null)
+                    : null;
+            if (lazyFeatures == null) {
+                // parsed up front, but still released feature by feature
+                Deque<Feature> parsed = new ArrayDeque<>(featureSupplier.get());
+                lazyFeatures = Stream.generate(parsed::poll).takeWhile(Objects::nonNull);
             }
-        };
+            return streamTests(context, lazyFeatures, filters, runtimeOptions.getLimitCount(), scenario,
+                    () -> options.rerunFile().write(failedPickles));
+        }
 
-        featureSupplier.get().forEach(f -> {
+        List<Feature> parsedFeatures = featureSupplier.get();
+        // like Cucumber's own runtime: filter, order, then limit the pickles
+        Map<Pickle, Feature> featureOfPickle = new IdentityHashMap<>();
+        List<Pickle> pickles = new ArrayList<>();
+        parsedFeatures.forEach(f -> f.getPickles().stream()
+                .filter(filters)
+                .forEach(p -> {
+                    featureOfPickle.put(p, f);
+                    pickles.add(p);
+                }));
+        pickles.removeIf(options.shard().select(pickles).negate());
+        List<Pickle> orderedPickles = limit(options.order().orderPickles(pickles), runtimeOptions.getLimitCount());
+        // features are listed by their first pickle, the pickles of a feature keep their relative order
+        Map<Feature, List<Pickle>> picklesByFeature = new LinkedHashMap<>();
+        orderedPickles.forEach(
+                p -> picklesByFeature.computeIfAbsent(featureOfPickle.get(p), f -> new ArrayList<>()).add(p));
+
+        List<DynamicNode> features = new LinkedList<>();
+        features.add(DynamicTest.dynamicTest("Start Cucumber", () -> startTestRun(context)));
+        if (options.load().isEnabled()) {
+            ScenarioLoad load = options.load();
+            features.add(DynamicTest.dynamicTest("Before All Features", () -> {
+                try {
+                    context.runBeforeAllHooks();
+                } finally {
+                    parsedFeatures.forEach(context::beforeFeature);
+                }
+            }));
+            // the scenarios pass or fail by all their runs, once the whole load test is over
+            features.add(DynamicTest.dynamicTest("Load Test", () -> load.run(orderedPickles, p -> () -> {
+                verify(featureOfPickle.get(p), p, budgets.run(p, () -> dispatcher.runPickle(context, p)));
+                return null;
+            })));
+            picklesByFeature.forEach((f, featurePickles) -> features.add(DynamicContainer.dynamicContainer(
+                    f.getName().orElse(f.getSource()), featurePickles.stream().map(p -> DynamicTest.dynamicTest(
+                            p.getName(), () -> {
+                                ScenarioLoad.Statistics statistics = load.statistics(p);
+                                if (statistics.failures() > 0) {
+                                    failedPickles.add(p);
+                                }
+                                verify(p, statistics, budgets);
+                            })))));
+            features.add(DynamicTest.dynamicTest("After All Features", () -> runAfterAllHooks(context)));
+            features.add(DynamicTest.dynamicTest("Finish Cucumber", () -> {
+                try {
+                    context.finishTestRun();
+                } finally {
+                    options.rerunFile().write(failedPickles);
+                }
+            }));
+            return features.stream();
+        }
+        if (parallelExecutor == null) {
+            features.add(DynamicTest.dynamicTest("Before All Features", context::runBeforeAllHooks));
+        } else {
+            features.add(DynamicTest.dynamicTest("Before All Features", () -> {
+                try {
+                    context.runBeforeAllHooks();
+                } finally {
+                    // like Cucumber's own runtime, all sources are announced before the first pickle runs
+                    parsedFeatures.forEach(context::beforeFeature);
+                    for (Pickle p : orderedPickles) {
+                        parallelExecutor.submit(p, scenario.apply(featureOfPickle.get(p), p));
+                    }
+                }
+            }));
+        }
+
+        picklesByFeature.forEach((f, featurePickles) -> {
             List<DynamicTest> tests = new LinkedList<>();
-            tests.add(DynamicTest.dynamicTest("Start Feature", () -> context.beforeFeature(f)));
-            f.getPickles()
-                    .stream()
-                    .filter(filters)
-                    .forEach(p -> tests.add(DynamicTest.dynamicTest(p.getName(), () -> {
-                        AtomicReference<TestStepFinished> resultAtomicReference = new AtomicReference<>();
-                        EventHandler<TestStepFinished> handler = event -> {
-                            if (event.getResult().getStatus() != Status.PASSED) {
-                                // save the first failed test step, so that we can get the line number of the
-                                // cucumber file
-                                resultAtomicReference.compareAndSet(null, event);
-                            }
-                        };
-
-                        eventBus.registerHandlerFor(TestCaseStarted.class, scenarioStartedHandler);
-                        eventBus.registerHandlerFor(TestCaseFinished.class, scenarioFinishedHandler);
-                        eventBus.registerHandlerFor(TestStepFinished.class, handler);
-                        context.runTestCase(r -> r.runPickle(p));
-                        eventBus.removeHandlerFor(TestStepFinished.class, handler);
-                        eventBus.removeHandlerFor(TestCaseFinished.class, scenarioFinishedHandler);
-                        eventBus.removeHandlerFor(TestCaseStarted.class, scenarioStartedHandler);
-
-                        // if we have no main arguments, we are running as part of a junit test suite,
-                        // we need to fail the junit test explicitly
-                        if (resultAtomicReference.get() != null) {
-                            TestStep testStep = resultAtomicReference.get().getTestStep();
-                            if (testStep instanceof PickleStepTestStep) {
-                                // failed in step, we have a line in the feature file
-                                Assertions.fail(
-                                        "failed in " + f.getUri() + " at line "
-                                                + ((PickleStepTestStep) testStep).getStep()
-                                                        .getLocation()
-                                                        .getLine(),
-                                        resultAtomicReference.get().getResult().getError());
-                            } else {
-                                // failed somewhere in hooks
-                                Assertions.fail(
-                                        "failed in " + f.getUri() + " at "
-                                                + testStep.getCodeLocation(),
-                                        resultAtomicReference.get().getResult().getError());
-                            }
-                        }
-                    })));
+            if (parallelExecutor == null) {
+                tests.add(DynamicTest.dynamicTest("Start Feature", () -> context.beforeFeature(f)));
+            }
+            featurePickles.forEach(p -> tests.add(DynamicTest.dynamicTest(p.getName(), () -> {
+                if (parallelExecutor == null) {
+                    scenario.apply(f, p).call();
+                } else {
+                    parallelExecutor.await(p);
+                }
+            })));
 
-            if (tests.size() > 1) {
-                features.add(DynamicContainer.dynamicContainer(f.getName().orElse(f.getSource()), tests.stream()));
+            if (!tests.isEmpty() && (parallelExecutor != null || tests.size() > 1)) {
+                // JUnit closes the stream once the container finished, whichever of its tests were selected and ran
+                features.add(DynamicContainer.dynamicContainer(f.getName().orElse(f.getSource()),
+                        tests.stream().onClose(() -> FeatureContext.current().destroy(f.getUri()))));
             }
         });
-        features.add(DynamicTest.dynamicTest("After All Features", context::runAfterAllHooks));
-        features.add(DynamicTest.dynamicTest("Finish Cucumber", context::finishTestRun));
+        if (parallelExecutor == null) {
+            features.add(DynamicTest.dynamicTest("After All Features", () -> runAfterAllHooks(context)));
+        } else {
+            features.add(DynamicTest.dynamicTest("After All Features", () -> {
+                parallelExecutor.shutdown();
+                runAfterAllHooks(context);
+            }));
+        }
+        features.add(DynamicTest.dynamicTest("Finish Cucumber", () -> {
+            try {
+                context.finishTestRun();
+            } finally {
+                options.rerunFile().write(failedPickles);
+            }
+        }));
+
+        return features.stream();
+    }
+
+    /**
+     * Builds the tests while JUnit runs them: a feature is parsed once the tests of the previous one ran,
+     * and every scenario is released once its test ran.
+     */
+    static Stream<DynamicNode> streamTests(CucumberExecutionContext context, Stream<Feature> features,
+            Predicate<Pickle> filters, int limit, BiFunction<Feature, Pickle, Callable<Void>> scenario,
+            Executable afterTestRun) {
+        AtomicInteger remaining = new AtomicInteger(limit > 0 ? limit : Integer.MAX_VALUE);
+        Stream<DynamicNode> containers = features
+                .takeWhile(f -> remaining.get() > 0)
+                .map(f -> featureContainer(context, f, filters, remaining, scenario))
+                .flatMap(Optional::stream);
+        Stream<DynamicNode> head = Stream.of(
+                DynamicTest.dynamicTest("Start Cucumber", () -> startTestRun(context)),
+                DynamicTest.dynamicTest("Before All Features", context::runBeforeAllHooks));
+        Stream<DynamicNode> tail = Stream.of(
+                DynamicTest.dynamicTest("After All Features", () -> runAfterAllHooks(context)),
+                DynamicTest.dynamicTest("Finish Cucumber", () -> {
+                    try {
+                        context.finishTestRun();
+                    } finally {
+                        afterTestRun.execute();
+                    }
+                }));
+        // flat mapping would parse all features as soon as JUnit pulls the first one from the iterator
+        return Stream.concat(Stream.concat(head, containers), tail);
+    }
+
+    private static Optional<DynamicNode> featureContainer(CucumberExecutionContext context, Feature f,
+            Predicate<Pickle> filters, AtomicInteger remaining, BiFunction<Feature, Pickle, Callable<Void>> scenario) {
+        Deque<Pickle> pickles = new ArrayDeque<>();
+        for (Pickle p : f.getPickles()) {
+            if (remaining.get() <= 0) {
+                break;
+            }
+            if (filters.test(p)) {
+                pickles.add(p);
+                remaining.decrementAndGet();
+            }
+        }
+        if (pickles.isEmpty()) {
+            return Optional.empty();
+        }
+        // the tests stay reachable from JUnit's test tree, the feature and its pickles must not
+        AtomicReference<Feature> feature = new AtomicReference<>(f);
+        URI uri = f.getUri();
+        Stream<DynamicTest> tests = Stream.generate(pickles::poll)
+                .takeWhile(Objects::nonNull)
+                .map(p -> {
+                    AtomicReference<Pickle> pickle = new AtomicReference<>(p);
+                    return DynamicTest.dynamicTest(p.getName(),
+                            () -> scenario.apply(feature.get(), pickle.getAndSet(null)).call());
+                });
+        return Optional.of(DynamicContainer.dynamicContainer(f.getName().orElse(f.getSource()), Stream.concat(
+                Stream.of(DynamicTest.dynamicTest("Start Feature", () -> context.beforeFeature(feature.get()))),
+                tests).onClose(() -> {
+                    // JUnit closes the stream once the container finished
+                    feature.set(null);
+                    FeatureContext.current().destroy(uri);
+                })));
+    }
+
+    /**
+     * Starts a run, with the {@link RunScope} beans of this run.
+     */
+    private static void startTestRun(CucumberExecutionContext context) {
+        RunContext.current().activate();
+        context.startTestRun();
+    }
+
+    /**
+     * Runs the after all hooks, then destroys the {@link Resettable} beans pooled for later scenarios, the
+     * {@link FeatureScope} beans of features that did not run to the end and the {@link RunScope} beans.
+     */
+    private static void runAfterAllHooks(CucumberExecutionContext context) {
+        try {
+            context.runAfterAllHooks();
+        } finally {
+            ScenarioContext.current().destroyPooled();
+            FeatureContext.current().destroyAll();
+            RunContext.current().destroy();
+        }
+    }
+
+    private static List<Pickle> limit(List<Pickle> pickles, int limit) {
+        return limit > 0 && pickles.size() > limit ? pickles.subList(0, limit) : pickles;
+    }
+
+    /**
+     * Fails the test of a scenario that did not pass, or was interrupted by the hard timeout.
+     */
+    private static void verify(Feature f, Pickle p, PickleResult result) {
+        if (result.timeout() != null) {
+            Assertions.fail(result.timeout().getMessage(), result.timeout());
+        }
 
-        return features;
+        // if we have no main arguments, we are running as part of a junit test suite,
+        // we need to fail the junit test explicitly
+        TestStepFinished failedStep = result.failedStep();
+        if (failedStep != null) {
+            TestStep testStep = failedStep.getTestStep();
+            if (testStep instanceof PickleStepTestStep) {
+                // failed in step, we have a line in the feature file
+                Assertions.fail(
+                        "failed in " + f.getUri() + " at line "
+                                + ((PickleStepTestStep) testStep).getStep()
+                                        .getLocation()
+                                        .getLine(),
+                        failedStep.getResult().getError());
+            } else {
+                // failed somewhere in hooks
+                Assertions.fail(
+                        "failed in " + f.getUri() + " at "
+                                + testStep.getCodeLocation(),
+                        failedStep.getResult().getError());
+            }
+        }
+    }
+
+    /**
+     * Fails the test of a scenario that did not pass in any run of a load test, or was too slow.
+     */
+    private static void verify(Pickle p, ScenarioLoad.Statistics statistics, ScenarioBudgets budgets) {
+        if (statistics.runs() == 0) {
+            throw new TestAbortedException("Not run, the load test ended before the scenario's turn");
+        }
+        if (statistics.firstFailure() != null) {
+            Assertions.fail(statistics.failures() + " of " + statistics.runs() + " runs failed, the first one",
+                    statistics.firstFailure());
+        }
+        budgets.check(p, statistics);
     }
 
     private Class<? extends CucumberQuarkusTest> findCucumberOptionAnnotatedClassSkippingProxies() {
@@ -199,36 +442,189 @@ public abstract class CucumberQuarkusTest {
         return null;
     }
 
-    private static CucumberExecutionContext cucumberExecutionContext(EventBus eventBus, RuntimeOptions runtimeOptions,
-            ExitStatus exitStatus) {
+    /**
+     * Builds the runtime options of a test class from all Cucumber property sources and its
+     * {@link CucumberOptions}.
+     */
+    static RuntimeOptions runtimeOptions(Class<? extends CucumberQuarkusTest> testClassWithCucumberOptions) {
+        RuntimeOptions propertyOptions = CucumberPropertySources.get().runtimeOptions();
+
+        RuntimeOptions runtimeOptions;
+        RuntimeOptionsBuilder runtimeOptionsBuilder = new RuntimeOptionsBuilder()
+                .addDefaultFeaturePathIfAbsent()
+                .addDefaultGlueIfAbsent()
+                .addDefaultSummaryPrinterIfNotDisabled();
+
+        if (testClassWithCucumberOptions != null) {
+            CucumberOptionsAnnotationParser annotationParser = new CucumberOptionsAnnotationParser()
+                    .withOptionsProvider(new QuarkusCucumberOptionsProvider());
+            RuntimeOptions annotationOptions = annotationParser
+                    .parse(testClassWithCucumberOptions)
+                    .build(propertyOptions);
+            runtimeOptions = runtimeOptionsBuilder.build(annotationOptions);
+        } else {
+            runtimeOptions = runtimeOptionsBuilder.build(propertyOptions);
+        }
+        return new RuntimeOptionsBuilder()
+                .setThreads(parallelism(testClassWithCucumberOptions))
+                .build(runtimeOptions);
+    }
+
+    /**
+     * Resolves the number of scenario workers.
+     * <p>
+     * A positive {@link CucumberOptions#threads()} wins, otherwise
+     * {@value #PARALLEL_ENABLED_PROPERTY_NAME} and {@value #PARALLEL_FIXED_PARALLELISM_PROPERTY_NAME}
+     * are read from the usual Cucumber property sources.
+     */
+    private static int parallelism(Class<? extends CucumberQuarkusTest> testClassWithCucumberOptions) {
+        if (testClassWithCucumberOptions != null) {
+            int threads = testClassWithCucumberOptions.getAnnotation(CucumberOptions.class).threads();
+            if (threads > 0) {
+                return threads;
+            }
+        }
+        Map<String, String> properties = CucumberPropertySources.get().properties();
+        if (!Boolean.parseBoolean(properties.get(PARALLEL_ENABLED_PROPERTY_NAME))) {
+            return 1;
+        }
+        String parallelism = properties.get(PARALLEL_FIXED_PARALLELISM_PROPERTY_NAME);
+        if (parallelism == null || parallelism.isBlank()) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        try {
+            return Math.max(1, Integer.parseInt(parallelism.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "Failed to parse '" + PARALLEL_FIXED_PARALLELISM_PROPERTY_NAME + "' with value '" + parallelism + "'",
+                    e);
+        }
+    }
+
+    /**
+     * Resolves the number of failed scenarios after which the remaining scenarios are skipped.
+     * <p>
+     * A positive {@link CucumberOptions#maxFailures()} wins, otherwise {@value #MAX_FAILURES_PROPERTY_NAME}
+     * is read from the usual Cucumber property sources. Zero means all scenarios run.
+     */
+    private static int maxFailures(Class<? extends CucumberQuarkusTest> testClassWithCucumberOptions) {
+        if (testClassWithCucumberOptions != null) {
+            int maxFailures = testClassWithCucumberOptions.getAnnotation(CucumberOptions.class).maxFailures();
+            if (maxFailures > 0) {
+                return maxFailures;
+            }
+        }
+        String maxFailures = CucumberPropertySources.get().properties().get(MAX_FAILURES_PROPERTY_NAME);
+        if (maxFailures == null || maxFailures.isBlank()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(maxFailures.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "Failed to parse '" + MAX_FAILURES_PROPERTY_NAME + "' with value '" + maxFailures + "'", e);
+        }
+    }
+
+    /**
+     * Resolves whether the tests are built while they run.
+     * <p>
+     * A true {@link CucumberOptions#streaming()} wins, otherwise {@value #STREAMING_PROPERTY_NAME} is read
+     * from the usual Cucumber property sources. Streaming needs to know the scenarios of a feature only, so
+     * it is not used in parallel mode, with sharding or in any but the lexical order. A load test replays
+     * the scenarios, so it never streams them.
+     */
+    private static boolean streaming(Class<? extends CucumberQuarkusTest> testClassWithCucumberOptions,
+            RuntimeOptions runtimeOptions, ScenarioShard shard, ScenarioLoad load) {
+        boolean streaming = testClassWithCucumberOptions != null
+                && testClassWithCucumberOptions.getAnnotation(CucumberOptions.class).streaming();
+        if (!streaming && !Boolean.parseBoolean(CucumberPropertySources.get().properties().get(STREAMING_PROPERTY_NAME))
+                || load.isEnabled()) {
+            return false;
+        }
+        if (runtimeOptions.isMultiThreaded() || shard.isSharded() || !ScenarioOrder.isLexical()) {
+            LOG.infof("Streaming requires scenarios to run one after another, in lexical order and without "
+                    + "sharding, all tests are built up front");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Resolves whether the scenario workers of parallel mode are virtual threads.
+     * <p>
+     * A true {@link CucumberOptions#virtualThreads()} wins, otherwise
+     * {@value #PARALLEL_VIRTUAL_THREADS_PROPERTY_NAME} is read from the usual Cucumber property sources.
+     */
+    private static boolean virtualThreads(Class<? extends CucumberQuarkusTest> testClassWithCucumberOptions) {
+        if (testClassWithCucumberOptions != null
+                && testClassWithCucumberOptions.getAnnotation(CucumberOptions.class).virtualThreads()) {
+            return true;
+        }
+        return Boolean.parseBoolean(CucumberPropertySources.get().properties().get(PARALLEL_VIRTUAL_THREADS_PROPERTY_NAME));
+    }
+
+    /**
+     * @param backgroundsOnce whether to register the hooks of features tagged {@value FeatureBackgrounds#TAG}
+     * @param runners the runners borrowed by the scenarios in parallel mode, or {@code null} for a runner per
+     *        worker thread
+     */
+    static CucumberExecutionContext cucumberExecutionContext(EventBus eventBus, RuntimeOptions runtimeOptions,
+            ExitStatus exitStatus, Duration stepTimeout, boolean backgroundsOnce, RunnerPool runners) {
         ObjectFactory objectFactory = new CdiObjectFactory();
 
         ObjectFactorySupplier objectFactorySupplier = () -> objectFactory;
 
+        Supplier<ClassLoader> classLoader = () -> Thread.currentThread().getContextClassLoader();
+        BackendSupplier backendSupplier = () -> {
+            Backend javaBackend = new JavaBackendProviderService().create(objectFactorySupplier.get(),
+                    objectFactorySupplier.get(),
+                    classLoader);
+            Optional<GlueRegistry> glueRegistry = GlueRegistry.current();
+            Backend backend = javaBackend;
+            if (glueRegistry.isPresent() && IndexedJavaBackend.isSupported()) {
+                backend = new IndexedJavaBackend(glueRegistry.get(), objectFactorySupplier.get(),
+                        objectFactorySupplier.get(), classLoader, javaBackend);
+            }
+            Backend steps = new AsyncStepBackend(backend, objectFactorySupplier.get(), classLoader, stepTimeout);
+            return backgroundsOnce ? List.of(steps, FeatureBackgrounds.hooks()) : List.of(steps);
+        };
+
+        if (runtimeOptions.isMultiThreaded() && runners != null) {
+            // a virtual worker runs a single scenario, so the runners outlive their threads
+            return new CucumberExecutionContext(eventBus, exitStatus, runners.supplier(() -> new Runner(
+                    new RunnerPool.RunnerEventBus(eventBus), backendSupplier.get(), objectFactory, runtimeOptions)));
+        }
+        if (runtimeOptions.isMultiThreaded()) {
+            // a runner prepares its glue per pickle, so every worker thread gets its own
+            return new CucumberExecutionContext(eventBus, exitStatus,
+                    new ThreadLocalRunnerSupplier(runtimeOptions, eventBus, backendSupplier, objectFactorySupplier));
+        }
+
         Runner runner = new Runner(eventBus,
-                Collections.singleton(new JavaBackendProviderService().create(objectFactorySupplier.get(),
-                        objectFactorySupplier.get(),
-                        () -> Thread.currentThread()
-                                .getContextClassLoader())),
+                backendSupplier.get(),
                 objectFactorySupplier.get(),
                 runtimeOptions);
 
         return new CucumberExecutionContext(eventBus, exitStatus, () -> runner);
     }
 
-    /**
-     * Fires a CDI event for scenario lifecycle hooks.
-     *
-     * @param event the scenario event payload
-     * @param qualifier the qualifier annotation (BeforeScenario or AfterScenario)
-     */
-    private static void fireScenarioEvent(ScenarioEvent event, java.lang.annotation.Annotation qualifier) {
-        Arc.container().beanManager().getEvent()
-                .select(ScenarioEvent.class, qualifier)
-                .fire(event);
+    private record TestClassOptions(RuntimeOptions runtimeOptions, ScenarioBudgets budgets, int maxFailures,
+            RerunFile rerunFile, ScenarioShard shard, PickleOrder order, boolean streaming, ScenarioLoad load,
+            boolean virtualThreads, Duration stepTimeout) {
     }
 
+    /**
+     * Looks up glue instances as CDI beans.
+     * <p>
+     * The bean of every glue class is resolved once, when Cucumber adds the class or first asks for an
+     * instance of it. Normal scoped beans, such as the {@link ScenarioScope} default of step classes, are
+     * then served by their client proxy, which always delegates to the instance of the current scenario.
+     */
     public static class CdiObjectFactory implements ObjectFactory {
+
+        private final ConcurrentMap<Class<?>, Supplier<?>> instances = new ConcurrentHashMap<>();
+
         public CdiObjectFactory() {
         }
 
@@ -241,40 +637,56 @@ public abstract class CucumberQuarkusTest {
         }
 
         public boolean addClass(Class<?> clazz) {
+            instances.computeIfAbsent(clazz, CdiObjectFactory::resolve);
             return true;
         }
 
         public <T> T getInstance(Class<T> type) {
-            var old = Thread.currentThread().getContextClassLoader();
+            Supplier<?> instance = instances.get(type);
+            if (instance == null) {
+                instance = instances.computeIfAbsent(type, CdiObjectFactory::resolve);
+            }
+            return type.cast(instance.get());
+        }
+
+        private static Supplier<?> resolve(Class<?> type) {
             try {
-                Thread.currentThread().setContextClassLoader(type.getClassLoader());
-                Instance<T> selected = CDI.current().select(type);
-                if (selected.isUnsatisfied()) {
-                    throw new IllegalArgumentException(type.getName() + " is no CDI bean.");
-                } else {
-                    return selected.get();
+                BeanManager beanManager = Arc.container().beanManager();
+                Bean<?> bean = beanManager.resolve(beanManager.getBeans(type));
+                if (bean == null) {
+                    return () -> {
+                        throw new IllegalArgumentException(type.getName() + " is no CDI bean.");
+                    };
                 }
-            } finally {
-                Thread.currentThread().setContextClassLoader(old);
+                InjectableInstance<?> selected = Arc.container().select(type);
+                if (beanManager.isNormalScope(bean.getScope())) {
+                    Object clientProxy = selected.get();
+                    return () -> clientProxy;
+                }
+                return selected::get;
+            } catch (RuntimeException e) {
+                // e.g. ambiguous beans, reported when an instance is requested, like any other lookup failure
+                return () -> {
+                    throw e;
+                };
             }
         }
     }
 
     protected static <T extends CucumberQuarkusTest> void runMain(Class<T> testClass, String[] args) {
-        RuntimeOptions propertiesFileOptions = new CucumberPropertiesParser()
-                .parse(CucumberProperties.fromPropertiesFile())
-                .build();
-
-        RuntimeOptions environmentOptions = new CucumberPropertiesParser()
-                .parse(CucumberProperties.fromEnvironment())
-                .build(propertiesFileOptions);
+        // the parsed order can not be converted back, and the parser does not know longest-first
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        int order = arguments.indexOf("--order");
+        if (order >= 0 && order + 1 < arguments.size()) {
+            System.setProperty(Constants.EXECUTION_ORDER_PROPERTY_NAME, arguments.remove(order + 1));
+            arguments.remove(order);
+        }
 
-        RuntimeOptions systemOptions = new CucumberPropertiesParser()
-                .parse(CucumberProperties.fromSystemProperties())
-                .build(environmentOptions);
+        RuntimeOptions systemOptions = CucumberPropertySources.load().runtimeOptions();
 
         CommandlineOptionsParser commandlineOptionsParser = new CommandlineOptionsParser(System.out);
-        RuntimeOptions runtimeOptions = commandlineOptionsParser.parse(args).build(systemOptions);
+        RuntimeOptions runtimeOptions = commandlineOptionsParser.parse(arguments.toArray(String[]::new))
+                .build(systemOptions);
 
         commandlineOptionsParser.exitStatus().ifPresent(System::exit);
 
@@ -282,11 +694,13 @@ public abstract class CucumberQuarkusTest {
         // TODO: CUCUMBER_PROPERTIES_FILE_NAME
         System.setProperty(Constants.EXECUTION_DRY_RUN_PROPERTY_NAME, String.valueOf(runtimeOptions.isDryRun()));
         System.setProperty(Constants.EXECUTION_LIMIT_PROPERTY_NAME, String.valueOf(runtimeOptions.getLimitCount()));
-        // TODO: EXECUTION_ORDER_PROPERTY_NAME runtimeOptions.getPickleOrder(); (how can
-        // we convert this?)
         // --strict/--no-strict is already handled by the CommandlineOptionsParser
         // EXECUTION_STRICT_PROPERTY_NAME
         System.setProperty(Constants.WIP_PROPERTY_NAME, String.valueOf(runtimeOptions.isWip()));
+        if (runtimeOptions.isMultiThreaded()) {
+            System.setProperty(PARALLEL_ENABLED_PROPERTY_NAME, "true");
+            System.setProperty(PARALLEL_FIXED_PARALLELISM_PROPERTY_NAME, String.valueOf(runtimeOptions.getThreads()));
+        }
         System.setProperty(Constants.FEATURES_PROPERTY_NAME,
                 runtimeOptions.getFeaturePaths().stream().map(URI::toString).collect(Collectors.joining(",")));
         System.setProperty(Constants.FILTER_NAME_PROPERTY_NAME,
@@ -0,0 +1,13 @@
+package io.quarkiverse.cucumber;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class CucumberRecorder {
+
+    public void registerGlue(List<GlueMethod> glueMethods) {
+        GlueRegistry.register(glueMethods);
+    }
+}
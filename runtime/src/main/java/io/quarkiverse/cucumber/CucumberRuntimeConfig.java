@@ -0,0 +1,304 @@
+package io.quarkiverse.cucumber;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.cucumber.core.snippets.SnippetType;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+
+/**
+ * Cucumber runtime options, read from the Quarkus configuration.
+ * <p>
+ * Every option mirrors a Cucumber property, e.g. {@code quarkus.cucumber.filter.tags} mirrors
+ * {@code cucumber.filter.tags}. The Cucumber properties, from {@code cucumber.properties}, the environment
+ * or system properties, as well as {@link CucumberOptions} take precedence over these options.
+ */
+@ConfigMapping(prefix = "quarkus.cucumber")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface CucumberRuntimeConfig {
+
+    /**
+     * Feature files or directories to run, as class path or file system URIs, optionally with line filters.
+     * <p>
+     * Mirrors {@code cucumber.features}.
+     */
+    Optional<List<String>> features();
+
+    /**
+     * Packages to load glue from.
+     * <p>
+     * Mirrors {@code cucumber.glue}.
+     */
+    Optional<List<String>> glue();
+
+    /**
+     * Plugins to register, e.g. {@code json:target/cucumber.json}.
+     * <p>
+     * Mirrors {@code cucumber.plugin}.
+     */
+    Optional<List<String>> plugin();
+
+    /**
+     * Whether ANSI colors are disabled in the console output.
+     * <p>
+     * Mirrors {@code cucumber.ansi-colors.disabled}.
+     */
+    Optional<Boolean> monochrome();
+
+    /**
+     * Naming convention of generated snippets.
+     * <p>
+     * Mirrors {@code cucumber.snippet-type}.
+     */
+    Optional<SnippetType> snippetType();
+
+    /**
+     * Scenario filters.
+     */
+    FilterConfig filter();
+
+    /**
+     * Execution options.
+     */
+    ExecutionConfig execution();
+
+    interface FilterConfig {
+
+        /**
+         * Only run scenarios matching this tag expression, e.g. {@code @smoke and not @slow}.
+         * <p>
+         * Mirrors {@code cucumber.filter.tags}.
+         */
+        Optional<String> tags();
+
+        /**
+         * Only run scenarios whose name matches this regular expression.
+         * <p>
+         * Mirrors {@code cucumber.filter.name}.
+         */
+        Optional<String> name();
+    }
+
+    interface ExecutionConfig {
+
+        /**
+         * Whether to check for undefined steps without running any of them.
+         * <p>
+         * Mirrors {@code cucumber.execution.dry-run}.
+         */
+        Optional<Boolean> dryRun();
+
+        /**
+         * Maximum number of scenarios to run.
+         * <p>
+         * Mirrors {@code cucumber.execution.limit}.
+         */
+        Optional<Integer> limit();
+
+        /**
+         * Order the scenarios are run in: {@code lexical}, {@code reverse}, {@code random},
+         * {@code random:<seed>} or {@code longest-first}.
+         * <p>
+         * Mirrors {@code cucumber.execution.order}.
+         */
+        Optional<String> order();
+
+        /**
+         * Reports of the {@code TimingFormatter} plugin from a previous run, to balance shards and to run the
+         * longest scenarios first with.
+         * <p>
+         * Mirrors {@code cucumber.execution.timings}.
+         */
+        Optional<List<String>> timings();
+
+        /**
+         * Whether to fail if any scenario passes, for work in progress.
+         * <p>
+         * Mirrors {@code cucumber.execution.wip}.
+         */
+        Optional<Boolean> wip();
+
+        /**
+         * Time budget of every scenario without a {@code @budget(...)} tag.
+         * <p>
+         * Mirrors {@code cucumber.execution.budget}.
+         */
+        Optional<Duration> budget();
+
+        /**
+         * What happens when a scenario exceeds its budget.
+         * <p>
+         * Mirrors {@code cucumber.execution.budget.exceeded}.
+         */
+        Optional<BudgetExceeded> budgetExceeded();
+
+        /**
+         * Hard timeout after which a running scenario is interrupted.
+         * <p>
+         * Mirrors {@code cucumber.execution.timeout}.
+         */
+        Optional<Duration> timeout();
+
+        /**
+         * Timeout of every step returning a {@code Uni} or a {@code CompletionStage}.
+         * <p>
+         * Mirrors {@code cucumber.execution.step-timeout}.
+         */
+        Optional<Duration> stepTimeout();
+
+        /**
+         * Number of failed scenarios after which the remaining scenarios are skipped.
+         * <p>
+         * Mirrors {@code cucumber.execution.max-failures}.
+         */
+        Optional<Integer> maxFailures();
+
+        /**
+         * Whether the scenario tests are built while they run, each feature parsed once the previous one finished.
+         * <p>
+         * Mirrors {@code cucumber.execution.streaming}.
+         */
+        Optional<Boolean> streaming();
+
+        /**
+         * Rerun options.
+         */
+        RerunConfig rerun();
+
+        /**
+         * Test impact options.
+         */
+        ImpactConfig impact();
+
+        /**
+         * Sharding options.
+         */
+        ShardConfig shard();
+
+        /**
+         * Parallel execution options.
+         */
+        ParallelConfig parallel();
+
+        /**
+         * Load test options.
+         */
+        LoadConfig load();
+    }
+
+    interface LoadConfig {
+
+        /**
+         * Number of workers replaying the selected scenarios at once, a positive number runs the scenarios
+         * as a load test.
+         * <p>
+         * Mirrors {@code cucumber.execution.load.workers}.
+         */
+        Optional<Integer> workers();
+
+        /**
+         * How long the scenarios are replayed at most.
+         * <p>
+         * Mirrors {@code cucumber.execution.load.duration}.
+         */
+        Optional<Duration> duration();
+
+        /**
+         * How often every scenario is replayed at most, once if neither this nor a duration is set.
+         * <p>
+         * Mirrors {@code cucumber.execution.load.iterations}.
+         */
+        Optional<Integer> iterations();
+
+        /**
+         * File the throughput and latency percentiles of every scenario and step are written to as JSON.
+         * <p>
+         * Mirrors {@code cucumber.execution.load.report}.
+         */
+        Optional<String> report();
+    }
+
+    interface ShardConfig {
+
+        /**
+         * Zero based index of the shard this JVM runs.
+         * <p>
+         * Mirrors {@code cucumber.execution.shard.index}.
+         */
+        Optional<Integer> index();
+
+        /**
+         * Number of shards the scenarios of every test class are split into.
+         * <p>
+         * Mirrors {@code cucumber.execution.shard.total}.
+         */
+        Optional<Integer> total();
+    }
+
+    interface ImpactConfig {
+
+        /**
+         * Changed classes, source files or feature files, only the scenarios affected by them are run.
+         * <p>
+         * An entry starting with {@code @} names a file listing the changes.
+         * <p>
+         * Mirrors {@code cucumber.execution.impact.changed}.
+         */
+        Optional<List<String>> changed();
+    }
+
+    interface RerunConfig {
+
+        /**
+         * Directory the failed scenarios of every test class are written to, one file per test class.
+         * <p>
+         * Mirrors {@code cucumber.execution.rerun.directory}.
+         */
+        Optional<String> directory();
+
+        /**
+         * Whether only the scenarios that failed in the previous run are run.
+         * <p>
+         * Mirrors {@code cucumber.execution.rerun.failed}.
+         */
+        Optional<Boolean> failed();
+    }
+
+    enum BudgetExceeded {
+        /**
+         * The scenario fails.
+         */
+        FAIL,
+        /**
+         * A warning is logged.
+         */
+        WARN
+    }
+
+    interface ParallelConfig {
+
+        /**
+         * Whether scenarios run on a pool of worker threads.
+         * <p>
+         * Mirrors {@code cucumber.execution.parallel.enabled}.
+         */
+        Optional<Boolean> enabled();
+
+        /**
+         * Number of worker threads, defaults to the number of available processors.
+         * <p>
+         * Mirrors {@code cucumber.execution.parallel.config.fixed.parallelism}.
+         */
+        Optional<Integer> threads();
+
+        /**
+         * Whether the workers are virtual threads, on Java 21 or later.
+         * <p>
+         * Mirrors {@code cucumber.execution.parallel.virtual-threads}.
+         */
+        Optional<Boolean> virtualThreads();
+    }
+}
@@ -0,0 +1,80 @@
+package io.quarkiverse.cucumber;
+
+import java.util.Arrays;
+
+/**
+ * The recorded durations of something timed, counted in log-linear buckets.
+ * <p>
+ * Every power of two is split into {@value #SUB_BUCKETS} buckets, so a percentile is at most 1/64 above the
+ * exact one, and the memory used depends on the longest duration rather than on how many were recorded.
+ * The count, total and maximum are exact.
+ */
+final class DurationHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // grown up to the bucket of the longest duration, a few kilobytes for durations of seconds
+    private int[] counts = new int[SUB_BUCKETS];
+    private int count;
+    private long total;
+    private long max;
+
+    synchronized void record(long nanos) {
+        nanos = Math.max(nanos, 0);
+        int bucket = bucket(nanos);
+        if (bucket >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(bucket + 1, counts.length + SUB_BUCKETS));
+        }
+        counts[bucket]++;
+        count++;
+        total += nanos;
+        max = Math.max(max, nanos);
+    }
+
+    synchronized Snapshot snapshot() {
+        if (count == 0) {
+            return new Snapshot(0, 0, 0, 0, 0, 0);
+        }
+        return new Snapshot(count, total, percentile(50), percentile(95), percentile(99), max);
+    }
+
+    private long percentile(int percentile) {
+        // nearest rank, reported as the highest duration of its bucket
+        long rank = Math.max((long) Math.ceil(percentile / 100.0 * count), 1);
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(lowest(bucket + 1) - 1, max);
+            }
+        }
+        return max;
+    }
+
+    static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+        // the bits below the highest one select the sub bucket
+        return SUB_BUCKETS + shift * SUB_BUCKETS + (int) ((nanos >>> shift) - SUB_BUCKETS);
+    }
+
+    static long lowest(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        if (shift + SUB_BUCKET_BITS >= 63) {
+            return Long.MAX_VALUE;
+        }
+        return (long) (SUB_BUCKETS + (bucket - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+    }
+
+    /**
+     * The count, total, percentiles and maximum of the recorded durations, in nanoseconds.
+     */
+    record Snapshot(int count, long total, long p50, long p95, long p99, long max) {
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkiverse.cucumber;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opentest4j.TestAbortedException;
+
+/**
+ * Stops running scenarios once too many of them failed.
+ * <p>
+ * Scenarios not run any more are aborted, which JUnit reports as skipped. Failures are counted when a
+ * scenario finishes, on whichever thread ran it, so in parallel mode the workers stop picking up
+ * scenarios as soon as the threshold is reached.
+ */
+final class FailFast {
+
+    private final int maxFailures;
+    private final AtomicInteger failures = new AtomicInteger();
+
+    /**
+     * @param maxFailures the number of failed scenarios after which no scenario runs any more, zero to run
+     *        all scenarios
+     */
+    FailFast(int maxFailures) {
+        this.maxFailures = maxFailures;
+    }
+
+    /**
+     * Runs a scenario, unless the maximum number of failed scenarios was reached.
+     *
+     * @param scenario runs the scenario and fails if it did not pass
+     */
+    <T> T run(Callable<T> scenario) throws Exception {
+        if (maxFailures > 0 && failures.get() >= maxFailures) {
+            throw new TestAbortedException("Not run, the maximum number of failed scenarios (" + maxFailures + ") was reached");
+        }
+        try {
+            return scenario.call();
+        } catch (Exception | Error e) {
+            if (!(e instanceof TestAbortedException)) {
+                failures.incrementAndGet();
+            }
+            throw e;
+        }
+    }
+}
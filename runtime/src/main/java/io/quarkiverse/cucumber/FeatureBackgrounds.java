@@ -0,0 +1,354 @@
+package io.quarkiverse.cucumber;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PreDestroy;
+
+import org.jboss.logging.Logger;
+
+import io.cucumber.core.backend.Backend;
+import io.cucumber.core.backend.Glue;
+import io.cucumber.core.backend.HookDefinition;
+import io.cucumber.core.backend.Snippet;
+import io.cucumber.core.backend.Status;
+import io.cucumber.core.backend.TestCaseState;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.gherkin.Step;
+import io.cucumber.plugin.event.Location;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * The Backgrounds of a feature tagged {@value #TAG}, which run once rather than for every scenario.
+ * <p>
+ * The first scenario of the feature runs the Background as usual, and once its last step passed the
+ * state of the {@link Restorable} beans is captured and every {@link BackgroundSnapshot} takes a snapshot.
+ * Every later scenario runs without the Background steps and restores the snapshot instead, from a before
+ * hook running after all others, which is where the Background would have started. Scenarios starting
+ * while the Background still runs wait for it. If the Background does not pass, the later scenarios run
+ * it again on their own.
+ * <p>
+ * A Background of a Rule is part of the Background of its scenarios, scenarios of Rules with different
+ * Backgrounds do not share a snapshot.
+ */
+@FeatureScope
+class FeatureBackgrounds {
+
+    static final String TAG = "@background-once";
+
+    private static final Logger LOG = Logger.getLogger(FeatureBackgrounds.class);
+
+    // the scenarios of a feature run on many threads, the hooks find their scenario's part here
+    private static final ThreadLocal<Run> RUNNING = new ThreadLocal<>();
+
+    // the lines of the Background steps -> the Background
+    private final ConcurrentMap<List<Integer>, Background> backgrounds = new ConcurrentHashMap<>();
+
+    /**
+     * The bean is only registered by the build if some feature of the application is tagged {@value #TAG}.
+     *
+     * @return whether Backgrounds run once at all
+     */
+    static boolean isEnabled() {
+        return Arc.container().instance(FeatureBackgrounds.class).isAvailable();
+    }
+
+    /**
+     * @return the Backgrounds of the feature active on the current thread
+     */
+    static FeatureBackgrounds current() {
+        return Arc.container().instance(FeatureBackgrounds.class).get();
+    }
+
+    /**
+     * @return the backend registering the hooks taking and restoring the snapshots
+     */
+    static Backend hooks() {
+        return new HookBackend();
+    }
+
+    /**
+     * Decides whether the given pickle runs the Background of its feature, or restores its snapshot. Waits
+     * for the Background if another scenario is running it.
+     *
+     * @return the pickle to run, without the Background steps if the snapshot is restored
+     */
+    Pickle start(Pickle pickle) {
+        List<Integer> lines = pickle.getSteps().stream()
+                .map(Step::getLine)
+                .takeWhile(line -> line < pickle.getScenarioLocation().getLine())
+                .toList();
+        if (lines.isEmpty()) {
+            return pickle;
+        }
+        Background background = backgrounds.computeIfAbsent(lines, l -> new Background(pickle.getUri(), l.size()));
+        if (background.claimed.compareAndSet(false, true)) {
+            RUNNING.set(new Run(background, null));
+            return pickle;
+        }
+        Snapshot snapshot = background.await();
+        if (snapshot == null) {
+            return pickle;
+        }
+        RUNNING.set(new Run(background, snapshot));
+        return new WithoutBackground(pickle, lines.size());
+    }
+
+    /**
+     * Ends the part of the scenario on the current thread, a Background that did not get to its snapshot
+     * is left to the later scenarios.
+     */
+    static void finish() {
+        Run run = RUNNING.get();
+        if (run != null) {
+            RUNNING.remove();
+            run.background.snapshot.complete(null);
+        }
+    }
+
+    @PreDestroy
+    void discard() {
+        for (Background background : backgrounds.values()) {
+            if (background.snapshot.getNow(null) == null) {
+                continue;
+            }
+            forEachHook(hook -> {
+                try {
+                    hook.discard(background.feature);
+                } catch (RuntimeException e) {
+                    // the scenarios already ran, this must not keep the other hooks from cleaning up
+                    LOG.warnf(e, "Failed to discard the Background snapshot of %s", background.feature);
+                }
+            });
+        }
+    }
+
+    private static void afterStep(TestCaseState state) {
+        Run run = RUNNING.get();
+        if (run == null || run.restored != null || run.background.snapshot.isDone()) {
+            return;
+        }
+        if (state.getStatus() != Status.PASSED) {
+            run.background.snapshot.complete(null);
+        } else if (++run.stepsRun == run.background.steps) {
+            try {
+                run.background.snapshot.complete(take(run.background.feature));
+            } catch (RuntimeException | Error e) {
+                run.background.snapshot.complete(null);
+                throw e;
+            }
+        }
+    }
+
+    private static void beforeScenario(TestCaseState state) {
+        Run run = RUNNING.get();
+        if (run != null && run.restored != null) {
+            restore(run.restored, run.background.feature);
+        }
+    }
+
+    private static Snapshot take(URI feature) {
+        Map<InjectableBean<?>, Object> states = new LinkedHashMap<>();
+        ScenarioContext.current().getState().getContextualInstances().forEach((bean, instance) -> {
+            if (instance instanceof Restorable<?> restorable) {
+                states.put(bean, restorable.snapshot());
+            }
+        });
+        forEachHook(hook -> hook.take(feature));
+        return new Snapshot(states);
+    }
+
+    private static void restore(Snapshot snapshot, URI feature) {
+        ScenarioContext context = ScenarioContext.current();
+        snapshot.states().forEach((bean, state) -> restore(context, bean, state));
+        forEachHook(hook -> hook.restore(feature));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, S> void restore(ScenarioContext context, InjectableBean<T> bean, Object state) {
+        T instance = context.get(bean, Arc.container().beanManager().createCreationalContext(bean));
+        ((Restorable<S>) instance).restore((S) state);
+    }
+
+    private static void forEachHook(Consumer<BackgroundSnapshot> action) {
+        for (BackgroundSnapshot hook : Arc.container().select(BackgroundSnapshot.class)) {
+            action.accept(hook);
+        }
+    }
+
+    private static final class Background {
+
+        private final URI feature;
+        private final int steps;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        // completed with null if the Background did not pass
+        private final CompletableFuture<Snapshot> snapshot = new CompletableFuture<>();
+
+        Background(URI feature, int steps) {
+            this.feature = feature;
+            this.steps = steps;
+        }
+
+        Snapshot await() {
+            try {
+                return snapshot.get();
+            } catch (InterruptedException e) {
+                // most likely the hard timeout of the scenario, which then runs the Background itself
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * The part of a scenario in a Background, either running it or restoring its snapshot.
+     */
+    private static final class Run {
+
+        private final Background background;
+        private final Snapshot restored;
+        private int stepsRun;
+
+        Run(Background background, Snapshot restored) {
+            this.background = background;
+            this.restored = restored;
+        }
+    }
+
+    private record Snapshot(Map<InjectableBean<?>, Object> states) {
+    }
+
+    /**
+     * A pickle without the steps of its Background.
+     */
+    private record WithoutBackground(Pickle pickle, int backgroundSteps) implements Pickle {
+
+        @Override
+        public String getKeyword() {
+            return pickle.getKeyword();
+        }
+
+        @Override
+        public String getLanguage() {
+            return pickle.getLanguage();
+        }
+
+        @Override
+        public String getName() {
+            return pickle.getName();
+        }
+
+        @Override
+        public Location getLocation() {
+            return pickle.getLocation();
+        }
+
+        @Override
+        public Location getScenarioLocation() {
+            return pickle.getScenarioLocation();
+        }
+
+        @Override
+        public Optional<Location> getRuleLocation() {
+            return pickle.getRuleLocation();
+        }
+
+        @Override
+        public Optional<Location> getFeatureLocation() {
+            return pickle.getFeatureLocation();
+        }
+
+        @Override
+        public Optional<Location> getExamplesLocation() {
+            return pickle.getExamplesLocation();
+        }
+
+        @Override
+        public List<Step> getSteps() {
+            List<Step> steps = pickle.getSteps();
+            return steps.subList(backgroundSteps, steps.size());
+        }
+
+        @Override
+        public List<String> getTags() {
+            return pickle.getTags();
+        }
+
+        @Override
+        public URI getUri() {
+            return pickle.getUri();
+        }
+
+        @Override
+        public String getId() {
+            return pickle.getId();
+        }
+    }
+
+    /**
+     * Registers the hooks of tagged scenarios, next to the step definitions of the Java backend.
+     */
+    private static final class HookBackend implements Backend {
+
+        @Override
+        public void loadGlue(Glue glue, List<URI> gluePaths) {
+            // before hooks run in ascending order, after step hooks in descending order: both run last
+            glue.addBeforeHook(new Hook("beforeScenario", Integer.MAX_VALUE, FeatureBackgrounds::beforeScenario));
+            glue.addAfterStepHook(new Hook("afterStep", Integer.MIN_VALUE, FeatureBackgrounds::afterStep));
+        }
+
+        @Override
+        public void buildWorld() {
+        }
+
+        @Override
+        public void disposeWorld() {
+        }
+
+        @Override
+        public Snippet getSnippet() {
+            // the snippets of undefined steps come from the Java backend
+            return null;
+        }
+    }
+
+    private record Hook(String name, int order, Consumer<TestCaseState> action) implements HookDefinition {
+
+        @Override
+        public void execute(TestCaseState state) {
+            action.accept(state);
+        }
+
+        @Override
+        public String getTagExpression() {
+            return TAG;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public boolean isDefinedAt(StackTraceElement stackTraceElement) {
+            return false;
+        }
+
+        @Override
+        public String getLocation() {
+            return FeatureBackgrounds.class.getName() + "." + name + "(" + TestCaseState.class.getName() + ")";
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.quarkiverse.cucumber;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext;
+
+/**
+ * Context backing {@link FeatureScope}.
+ * <p>
+ * Instances are stored per feature. The feature of a scenario is bound to the thread running it through
+ * {@link #activate(Object)}, so the scenarios of a feature share its instances even when they run
+ * concurrently, and never see those of another feature. The instances of a feature are destroyed
+ * through {@link #destroy(Object)} once the container of the feature finished.
+ */
+public class FeatureContext implements InjectableContext {
+
+    private final ConcurrentMap<Object, ContextInstances> features = new ConcurrentHashMap<>();
+    private final ThreadLocal<Object> activeFeature = new ThreadLocal<>();
+
+    /**
+     * Looks up the context instance registered for {@link FeatureScope}.
+     *
+     * @return the feature context of the running container
+     */
+    public static FeatureContext current() {
+        List<InjectableContext> contexts = Arc.container().getContexts(FeatureScope.class);
+        for (InjectableContext context : contexts) {
+            if (context instanceof FeatureContext) {
+                return (FeatureContext) context;
+            }
+        }
+        throw new IllegalStateException("No " + FeatureContext.class.getSimpleName() + " registered for "
+                + FeatureScope.class.getName());
+    }
+
+    /**
+     * Binds the given feature to the current thread.
+     *
+     * @param featureId the identifier of the feature, usually its URI
+     */
+    public void activate(Object featureId) {
+        activeFeature.set(featureId);
+    }
+
+    /**
+     * Unbinds the current thread from its feature, without destroying any instances.
+     */
+    public void deactivate() {
+        activeFeature.remove();
+    }
+
+    /**
+     * Destroys all instances of the given feature.
+     *
+     * @param featureId the identifier of the feature, usually its URI
+     */
+    public void destroy(Object featureId) {
+        ContextInstances instances = features.remove(featureId);
+        if (instances != null) {
+            instances.destroy();
+        }
+    }
+
+    /**
+     * Destroys the instances of all features, e.g. of features whose scenarios were not all run.
+     */
+    public void destroyAll() {
+        for (Object featureId : features.keySet()) {
+            destroy(featureId);
+        }
+    }
+
+    /**
+     * Destroys all instances of the feature active on the current thread.
+     */
+    @Override
+    public void destroy() {
+        Object featureId = activeFeature.get();
+        if (featureId != null) {
+            destroy(featureId);
+        }
+    }
+
+    @Override
+    public void destroy(Contextual<?> contextual) {
+        activeInstances().destroy(contextual);
+    }
+
+    @Override
+    public Class<? extends Annotation> getScope() {
+        return FeatureScope.class;
+    }
+
+    @Override
+    public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        return activeInstances().get(contextual, creationalContext);
+    }
+
+    @Override
+    public <T> T get(Contextual<T> contextual) {
+        return get(contextual, null);
+    }
+
+    @Override
+    public boolean isActive() {
+        return activeFeature.get() != null;
+    }
+
+    @Override
+    public ContextState getState() {
+        return activeInstances().state();
+    }
+
+    private ContextInstances activeInstances() {
+        Object featureId = activeFeature.get();
+        if (featureId == null) {
+            throw new ContextNotActiveException("No feature is active on thread " + Thread.currentThread().getName());
+        }
+        return features.computeIfAbsent(featureId, id -> new ContextInstances());
+    }
+}
@@ -0,0 +1,22 @@
+package io.quarkiverse.cucumber;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.context.NormalScope;
+
+/**
+ * Scope of beans shared by all scenarios of a feature, destroyed once the container of the feature finished.
+ *
+ * @see FeatureContext
+ */
+@NormalScope
+@Retention(RUNTIME)
+@Target({ TYPE, METHOD, FIELD })
+public @interface FeatureScope {
+}
@@ -0,0 +1,72 @@
+package io.quarkiverse.cucumber;
+
+import java.util.Objects;
+
+import io.quarkus.runtime.annotations.RecordableConstructor;
+
+/**
+ * A public method carrying a Cucumber glue annotation, found in the Jandex index at build time.
+ * <p>
+ * The method is identified by its declaring class, name and JVM descriptor, so the runtime can look it
+ * up directly instead of scanning the class for annotated methods.
+ */
+public final class GlueMethod {
+
+    private final String declaringClass;
+    private final String name;
+    private final String descriptor;
+    private final String annotation;
+
+    /**
+     * @param declaringClass the binary name of the class declaring the method
+     * @param name the method name
+     * @param descriptor the JVM descriptor of the method, e.g. {@code (Ljava/lang/String;I)V}
+     * @param annotation the binary name of the glue annotation, never a repeatable container annotation
+     */
+    @RecordableConstructor
+    public GlueMethod(String declaringClass, String name, String descriptor, String annotation) {
+        this.declaringClass = Objects.requireNonNull(declaringClass);
+        this.name = Objects.requireNonNull(name);
+        this.descriptor = Objects.requireNonNull(descriptor);
+        this.annotation = Objects.requireNonNull(annotation);
+    }
+
+    public String getDeclaringClass() {
+        return declaringClass;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescriptor() {
+        return descriptor;
+    }
+
+    public String getAnnotation() {
+        return annotation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GlueMethod)) {
+            return false;
+        }
+        GlueMethod that = (GlueMethod) o;
+        return declaringClass.equals(that.declaringClass) && name.equals(that.name)
+                && descriptor.equals(that.descriptor) && annotation.equals(that.annotation);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(declaringClass, name, descriptor, annotation);
+    }
+
+    @Override
+    public String toString() {
+        return declaringClass + "#" + name + descriptor + " @" + annotation;
+    }
+}
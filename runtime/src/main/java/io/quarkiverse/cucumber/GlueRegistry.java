@@ -0,0 +1,36 @@
+package io.quarkiverse.cucumber;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Glue methods of the application, collected at build time and recorded by {@link CucumberRecorder}.
+ */
+public final class GlueRegistry {
+
+    private static volatile GlueRegistry current;
+
+    private final List<GlueMethod> glueMethods;
+
+    GlueRegistry(List<GlueMethod> glueMethods) {
+        this.glueMethods = List.copyOf(glueMethods);
+    }
+
+    static void register(List<GlueMethod> glueMethods) {
+        current = new GlueRegistry(glueMethods);
+    }
+
+    /**
+     * @return the registry of the running application, or empty if it was not recorded
+     */
+    public static Optional<GlueRegistry> current() {
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * @return all glue methods, ordered by declaring class
+     */
+    public List<GlueMethod> getGlueMethods() {
+        return glueMethods;
+    }
+}
@@ -0,0 +1,154 @@
+package io.quarkiverse.cucumber;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+import io.cucumber.core.feature.FeatureIdentifier;
+import io.cucumber.core.feature.FeatureParser;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.resource.ClasspathSupport;
+import io.cucumber.core.runtime.FeatureSupplier;
+
+/**
+ * Supplies features using the {@link PickleIndex} generated at build time.
+ * <p>
+ * Feature files are looked up by name instead of scanning the class path, and a feature whose
+ * indexed pickles are all rejected by the filters is not parsed at all. Whenever the index can
+ * not answer reliably, e.g. for non class path feature paths or feature files that changed or
+ * disappeared after the build, the fallback supplier is used instead, and the reason is logged.
+ * <p>
+ * The features can also be streamed, each one read and parsed only once the previous one was consumed.
+ */
+class IndexedFeatureSupplier implements FeatureSupplier {
+
+    private static final Logger LOG = Logger.getLogger(IndexedFeatureSupplier.class);
+
+    private final PickleIndex index;
+    private final Supplier<ClassLoader> classLoader;
+    private final List<URI> featurePaths;
+    private final FeatureParser parser;
+    private final Predicate<Pickle> filters;
+    private final FeatureSupplier fallback;
+
+    IndexedFeatureSupplier(PickleIndex index, Supplier<ClassLoader> classLoader, List<URI> featurePaths,
+            FeatureParser parser, Predicate<Pickle> filters, FeatureSupplier fallback) {
+        this.index = index;
+        this.classLoader = classLoader;
+        this.featurePaths = featurePaths;
+        this.parser = parser;
+        this.filters = filters;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public List<Feature> get() {
+        return select()
+                .flatMap(this::load)
+                .orElseGet(fallback::get);
+    }
+
+    /**
+     * Streams the selected features in URI order, reading and parsing each one when it is consumed.
+     *
+     * @return the features, or empty if the index can not answer reliably
+     */
+    Optional<Stream<Feature>> stream() {
+        Optional<List<PickleIndex.IndexedFeature>> selected = select();
+        if (selected.isEmpty()) {
+            return Optional.empty();
+        }
+        for (PickleIndex.IndexedFeature indexedFeature : selected.get()) {
+            // a feature disappearing later would be too late to fall back
+            if (classLoader.get().getResource(indexedFeature.getResourceName()) == null) {
+                LOG.warnf("%s is gone since the build, the pickle index is not used", indexedFeature.getUri());
+                return Optional.empty();
+            }
+        }
+        List<PickleIndex.IndexedFeature> sorted = new ArrayList<>(selected.get());
+        sorted.sort(Comparator.comparing(PickleIndex.IndexedFeature::getUri));
+        return Optional.of(sorted.stream()
+                .map(indexedFeature -> {
+                    byte[] source = read(indexedFeature.getResourceName());
+                    if (source == null) {
+                        throw new IllegalStateException(indexedFeature.getUri() + " disappeared during the test run");
+                    }
+                    return parse(indexedFeature, source);
+                })
+                .flatMap(Optional::stream));
+    }
+
+    private Optional<List<PickleIndex.IndexedFeature>> select() {
+        Map<String, PickleIndex.IndexedFeature> selected = new LinkedHashMap<>();
+        for (URI featurePath : featurePaths) {
+            if (!ClasspathSupport.CLASSPATH_SCHEME.equals(featurePath.getScheme())) {
+                LOG.infof("Feature path %s is not on the class path, the pickle index is not used", featurePath);
+                return Optional.empty();
+            }
+            String resourceName = ClasspathSupport.resourceName(featurePath);
+            List<PickleIndex.IndexedFeature> found = new ArrayList<>();
+            if (FeatureIdentifier.isFeature(featurePath)) {
+                Optional.ofNullable(index.getFeatures().get(resourceName)).ifPresent(found::add);
+            } else {
+                String prefix = resourceName.isEmpty() || resourceName.endsWith("/") ? resourceName : resourceName + "/";
+                index.getFeatures().values().stream()
+                        .filter(f -> f.getResourceName().startsWith(prefix))
+                        .forEach(found::add);
+            }
+            if (found.isEmpty()) {
+                LOG.infof("No indexed feature found at %s, the pickle index is not used", featurePath);
+                return Optional.empty();
+            }
+            found.forEach(f -> selected.putIfAbsent(f.getResourceName(), f));
+        }
+        return Optional.of(new ArrayList<>(selected.values()));
+    }
+
+    private Optional<List<Feature>> load(List<PickleIndex.IndexedFeature> indexedFeatures) {
+        List<Feature> features = new ArrayList<>();
+        for (PickleIndex.IndexedFeature indexedFeature : indexedFeatures) {
+            byte[] source = read(indexedFeature.getResourceName());
+            if (source == null) {
+                LOG.warnf("%s is gone since the build, the pickle index is not used", indexedFeature.getUri());
+                return Optional.empty();
+            }
+            parse(indexedFeature, source).ifPresent(features::add);
+        }
+        features.sort(Comparator.comparing(Feature::getUri));
+        return Optional.of(features);
+    }
+
+    private Optional<Feature> parse(PickleIndex.IndexedFeature indexedFeature, byte[] source) {
+        boolean rejected = indexedFeature.getPickles().map(p -> p.stream().noneMatch(filters)).orElse(false);
+        // only a feature the index would skip has to be checked for changes, the others are parsed anyway
+        if (rejected) {
+            if (indexedFeature.matches(source)) {
+                // nothing in here will run, no need to parse it
+                return Optional.empty();
+            }
+            LOG.infof("%s changed since the build, its indexed pickles are not used", indexedFeature.getUri());
+        }
+        return parser.parseResource(new PickleIndex.SourceResource(indexedFeature.getUri(), source));
+    }
+
+    private byte[] read(String resourceName) {
+        try (InputStream in = classLoader.get().getResourceAsStream(resourceName)) {
+            return in == null ? null : in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + resourceName, e);
+        }
+    }
+}
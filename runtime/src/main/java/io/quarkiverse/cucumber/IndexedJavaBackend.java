@@ -0,0 +1,235 @@
+package io.quarkiverse.cucumber;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.cucumber.core.backend.Backend;
+import io.cucumber.core.backend.Container;
+import io.cucumber.core.backend.CucumberBackendException;
+import io.cucumber.core.backend.Glue;
+import io.cucumber.core.backend.Lookup;
+import io.cucumber.core.backend.Snippet;
+import io.cucumber.core.resource.ClasspathSupport;
+import io.cucumber.java.JavaBackendProviderService;
+
+/**
+ * Java backend registering the glue methods of the {@link GlueRegistry}.
+ * <p>
+ * Glue classes and methods are looked up by name, so the glue packages are neither scanned on the class
+ * path nor is every public method inspected for Cucumber annotations. The definitions themselves are
+ * created by cucumber-java, exactly as for scanned glue, and a glue class inheriting glue methods is
+ * rejected the same way. Whenever that is not possible, e.g. because a registered class can not be loaded
+ * or a glue path is not a {@code classpath:} URI, the glue is loaded by the regular Java backend instead,
+ * and the reason is logged.
+ */
+class IndexedJavaBackend implements Backend {
+
+    private static final Logger LOG = Logger.getLogger(IndexedJavaBackend.class);
+
+    private static final Map<Character, Class<?>> PRIMITIVES = Map.of(
+            'Z', boolean.class, 'B', byte.class, 'C', char.class, 'S', short.class,
+            'I', int.class, 'J', long.class, 'F', float.class, 'D', double.class);
+
+    /**
+     * The version of cucumber-java whose internal {@code GlueAdaptor} this backend was verified against,
+     * kept in line with the Cucumber version of the build by {@code IndexedJavaBackendTest}.
+     */
+    static final String TESTED_CUCUMBER_VERSION = "7.34.2";
+
+    // cucumber-java does not expose how it turns an annotated method into a definition
+    private static final Constructor<?> GLUE_ADAPTOR;
+    private static final Method ADD_DEFINITION;
+
+    static {
+        Constructor<?> glueAdaptor = null;
+        Method addDefinition = null;
+        try {
+            Class<?> type = Class.forName("io.cucumber.java.GlueAdaptor", true,
+                    JavaBackendProviderService.class.getClassLoader());
+            glueAdaptor = type.getDeclaredConstructor(Lookup.class, Glue.class);
+            glueAdaptor.setAccessible(true);
+            addDefinition = type.getDeclaredMethod("addDefinition", Method.class, Annotation.class);
+            addDefinition.setAccessible(true);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.warnf(e, "The glue registry is not supported by this version of cucumber-java, the glue packages are"
+                    + " scanned instead");
+            glueAdaptor = null;
+            addDefinition = null;
+        }
+        GLUE_ADAPTOR = glueAdaptor;
+        ADD_DEFINITION = addDefinition;
+        String version = cucumberJavaVersion();
+        if (addDefinition != null && version != null && !version.equals(TESTED_CUCUMBER_VERSION)) {
+            LOG.warnf("The glue registry was tested with cucumber-java %s, but %s is in use. If glue is missing or"
+                    + " behaves differently, turn the registry off with quarkus.cucumber.glue-registry.enabled=false",
+                    TESTED_CUCUMBER_VERSION, version);
+        }
+    }
+
+    private final GlueRegistry registry;
+    private final Lookup lookup;
+    private final Container container;
+    private final Supplier<ClassLoader> classLoader;
+    private final Backend fallback;
+
+    IndexedJavaBackend(GlueRegistry registry, Lookup lookup, Container container, Supplier<ClassLoader> classLoader,
+            Backend fallback) {
+        this.registry = registry;
+        this.lookup = lookup;
+        this.container = container;
+        this.classLoader = classLoader;
+        this.fallback = fallback;
+    }
+
+    static boolean isSupported() {
+        return ADD_DEFINITION != null;
+    }
+
+    /**
+     * @return the version of cucumber-java on the class path, or {@code null} if its jar does not tell
+     */
+    static String cucumberJavaVersion() {
+        return JavaBackendProviderService.class.getPackage().getImplementationVersion();
+    }
+
+    @Override
+    public void loadGlue(Glue glue, List<URI> gluePaths) {
+        for (URI gluePath : gluePaths) {
+            if (!ClasspathSupport.CLASSPATH_SCHEME.equals(gluePath.getScheme())) {
+                LOG.warnf("Glue path %s is not on the class path, the glue packages are scanned instead", gluePath);
+                fallback.loadGlue(glue, gluePaths);
+                return;
+            }
+        }
+        List<String> packageNames = gluePaths.stream()
+                .map(ClasspathSupport::packageName)
+                .toList();
+        List<ResolvedGlueMethod> resolved = new ArrayList<>();
+        try {
+            for (GlueMethod glueMethod : registry.getGlueMethods()) {
+                if (isInPackage(glueMethod.getDeclaringClass(), packageNames)) {
+                    resolved.add(resolve(glueMethod));
+                }
+            }
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOG.warnf(e, "Failed to resolve the registered glue, the glue packages are scanned instead");
+            fallback.loadGlue(glue, gluePaths);
+            return;
+        }
+
+        Object glueAdaptor = newInstance(GLUE_ADAPTOR, lookup, glue);
+        for (ResolvedGlueMethod glueMethod : resolved) {
+            container.addClass(glueMethod.method().getDeclaringClass());
+            // a repeated annotation is registered once, with all its occurrences
+            for (Annotation annotation : glueMethod.method().getAnnotationsByType(glueMethod.annotation())) {
+                invoke(ADD_DEFINITION, glueAdaptor, glueMethod.method(), annotation);
+            }
+        }
+    }
+
+    @Override
+    public void buildWorld() {
+        fallback.buildWorld();
+    }
+
+    @Override
+    public void disposeWorld() {
+        fallback.disposeWorld();
+    }
+
+    @Override
+    public Snippet getSnippet() {
+        return fallback.getSnippet();
+    }
+
+    private static boolean isInPackage(String className, List<String> packageNames) {
+        for (String packageName : packageNames) {
+            if (packageName.isEmpty() || className.startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ResolvedGlueMethod resolve(GlueMethod glueMethod) throws ReflectiveOperationException {
+        ClassLoader cl = classLoader.get();
+        Class<?> declaringClass = Class.forName(glueMethod.getDeclaringClass(), false, cl);
+        @SuppressWarnings("unchecked")
+        Class<? extends Annotation> annotation = (Class<? extends Annotation>) Class.forName(glueMethod.getAnnotation(),
+                false, cl);
+        Method method = declaringClass.getMethod(glueMethod.getName(), parameterTypes(glueMethod.getDescriptor(), cl));
+        if (method.getDeclaringClass() != declaringClass) {
+            // the same message as cucumber-java, which does not expose its exception
+            throw new CucumberBackendException("You're not allowed to extend classes that define Step Definitions or hooks. "
+                    + declaringClass + " extends " + method.getDeclaringClass());
+        }
+        return new ResolvedGlueMethod(method, annotation);
+    }
+
+    private static Class<?>[] parameterTypes(String descriptor, ClassLoader cl) throws ClassNotFoundException {
+        List<Class<?>> parameterTypes = new ArrayList<>();
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            int start = i;
+            while (descriptor.charAt(i) == '[') {
+                i++;
+            }
+            if (descriptor.charAt(i) == 'L') {
+                i = descriptor.indexOf(';', i);
+            }
+            i++;
+            String type = descriptor.substring(start, i);
+            if (type.length() == 1) {
+                parameterTypes.add(PRIMITIVES.get(type.charAt(0)));
+            } else if (type.charAt(0) == '[') {
+                parameterTypes.add(Class.forName(type.replace('/', '.'), false, cl));
+            } else {
+                parameterTypes.add(Class.forName(type.substring(1, type.length() - 1).replace('/', '.'), false, cl));
+            }
+        }
+        return parameterTypes.toArray(new Class<?>[0]);
+    }
+
+    private static Object newInstance(Constructor<?> constructor, Object... args) {
+        try {
+            return constructor.newInstance(args);
+        } catch (InvocationTargetException e) {
+            throw rethrow(e);
+        } catch (ReflectiveOperationException e) {
+            throw new CucumberBackendException("Failed to create " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    private static void invoke(Method method, Object target, Object... args) {
+        try {
+            method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw rethrow(e);
+        } catch (ReflectiveOperationException e) {
+            throw new CucumberBackendException("Failed to invoke " + method, e);
+        }
+    }
+
+    private static RuntimeException rethrow(InvocationTargetException e) {
+        // invalid glue is reported with the same exceptions as scanned glue
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (e.getCause() instanceof Error error) {
+            throw error;
+        }
+        return new CucumberBackendException(e.getCause().getMessage(), e.getCause());
+    }
+
+    private record ResolvedGlueMethod(Method method, Class<? extends Annotation> annotation) {
+    }
+}
@@ -0,0 +1,210 @@
+package io.quarkiverse.cucumber;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import io.cucumber.core.gherkin.Pickle;
+
+/**
+ * Runs pickles on worker threads against the already booted Quarkus application.
+ * <p>
+ * Pickles are submitted up front, the dynamic test generated for each pickle then only waits for
+ * its result, so JUnit keeps reporting one test per scenario while the scenarios themselves run
+ * concurrently.
+ * <p>
+ * Platform workers are a fixed pool, each running one scenario after another with its own Cucumber runner.
+ * Virtual workers are cheap enough to start one per scenario, so that many scenarios blocked on I/O can
+ * be in flight at once without as many platform threads. A semaphore bounds the scenarios in flight, and
+ * every scenario borrows a runner from the {@link RunnerPool}, so there are never more runners than
+ * permits, save for those kept by scenarios abandoned after the hard timeout. Where virtual threads are not available, platform
+ * threads are used instead.
+ */
+class ParallelPickleExecutor {
+
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
+
+    private static final Logger LOG = Logger.getLogger(ParallelPickleExecutor.class);
+
+    private final ExecutorService executor;
+    // bounds the scenarios in flight on virtual threads, null for the fixed pool of platform threads
+    private final Semaphore permits;
+    private final RunnerPool runners;
+    private final Map<Pickle, Future<?>> scheduled = new ConcurrentHashMap<>();
+    private final PinnedThreadMonitor pinnedThreads;
+
+    /**
+     * @param threads the number of scenarios in flight
+     * @param virtualThreads whether the workers are virtual threads
+     */
+    ParallelPickleExecutor(int threads, boolean virtualThreads) {
+        ThreadFactory virtualThreadFactory = virtualThreads ? virtualThreadFactory() : null;
+        ExecutorService threadPerTaskExecutor = virtualThreadFactory == null ? null
+                : threadPerTaskExecutor(new WorkerThreadFactory(virtualThreadFactory));
+        if (virtualThreads && threadPerTaskExecutor == null) {
+            LOG.warnf("Virtual threads are not available in Java %s, scenarios run on platform threads",
+                    Runtime.version().feature());
+        }
+        if (threadPerTaskExecutor == null) {
+            this.executor = Executors.newFixedThreadPool(threads, new WorkerThreadFactory(null));
+            this.permits = null;
+            this.runners = null;
+            this.pinnedThreads = null;
+        } else {
+            this.executor = threadPerTaskExecutor;
+            // fair, so that scenarios still start in the order they were submitted
+            this.permits = new Semaphore(threads, true);
+            this.runners = new RunnerPool();
+            this.pinnedThreads = PinnedThreadMonitor.start();
+        }
+    }
+
+    /**
+     * @return the runners borrowed by the scenarios of virtual workers, or {@code null} if every platform
+     *         worker has a runner of its own
+     */
+    RunnerPool runners() {
+        return runners;
+    }
+
+    /**
+     * Schedules a pickle for execution.
+     *
+     * @param pickle the pickle to run
+     * @param execution runs the pickle and fails if the scenario did not pass
+     */
+    void submit(Pickle pickle, Callable<?> execution) {
+        if (permits == null) {
+            scheduled.put(pickle, executor.submit(execution));
+            return;
+        }
+        scheduled.put(pickle, executor.submit(() -> {
+            // the virtual thread parks until a scenario in flight finishes
+            permits.acquire();
+            try {
+                return execution.call();
+            } finally {
+                permits.release();
+            }
+        }));
+    }
+
+    /**
+     * Waits for a scheduled pickle to finish, rethrowing why it did not pass.
+     *
+     * @param pickle the pickle to wait for
+     */
+    void await(Pickle pickle) throws Throwable {
+        Future<?> future = scheduled.remove(pickle);
+        if (future == null) {
+            throw new IllegalStateException("Scenario '" + pickle.getName() + "' in " + pickle.getUri()
+                    + " was never scheduled, see the 'Before All Features' result");
+        }
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Waits for all workers to finish and releases the pool.
+     */
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        try {
+            // scenarios that are still running must not overlap with the after all hooks
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } finally {
+            if (pinnedThreads != null) {
+                pinnedThreads.close();
+            }
+        }
+    }
+
+    /**
+     * Creates virtual threads through {@code Thread.ofVirtual()}, looked up reflectively as this runs on
+     * Java 17 as well.
+     *
+     * @return the factory of virtual threads, or {@code null} if the JVM has none
+     */
+    static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // older JVMs, or Java 19 and 20 without preview features
+            return null;
+        }
+    }
+
+    /**
+     * Checks {@code Thread.isVirtual()}, looked up reflectively as this runs on Java 17 as well.
+     *
+     * @return whether the thread is a virtual thread
+     */
+    static boolean isVirtual(Thread thread) {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Starts a thread per task through {@code Executors.newThreadPerTaskExecutor(ThreadFactory)}, looked up
+     * reflectively as this runs on Java 17 as well.
+     *
+     * @param threadFactory creates the thread of every task
+     * @return the executor, or {@code null} if the JVM has none
+     */
+    static ExecutorService threadPerTaskExecutor(ThreadFactory threadFactory) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final String namePrefix = "cucumber-quarkus-" + POOL_NUMBER.getAndIncrement() + "-worker-";
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        // workers load glue and resolve beans through the Quarkus class loader of the test
+        private final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        private final ThreadFactory virtualThreadFactory;
+
+        /**
+         * @param virtualThreadFactory creates the virtual worker threads, or {@code null} for platform threads
+         */
+        WorkerThreadFactory(ThreadFactory virtualThreadFactory) {
+            this.virtualThreadFactory = virtualThreadFactory;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread;
+            if (virtualThreadFactory == null) {
+                thread = new Thread(r, namePrefix + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+            } else {
+                // virtual threads are always daemon threads
+                thread = virtualThreadFactory.newThread(r);
+                thread.setName(namePrefix + threadNumber.getAndIncrement());
+            }
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }
+    }
+}
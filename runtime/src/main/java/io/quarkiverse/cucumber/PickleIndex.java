@@ -0,0 +1,451 @@
+package io.quarkiverse.cucumber;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+import io.cucumber.core.feature.FeatureParser;
+import io.cucumber.core.gherkin.Argument;
+import io.cucumber.core.gherkin.FeatureParserException;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.gherkin.Step;
+import io.cucumber.core.gherkin.StepType;
+import io.cucumber.core.resource.Resource;
+import io.cucumber.plugin.event.Location;
+
+/**
+ * Compact index of the pickles of all feature files found at build time.
+ * <p>
+ * The index is written by the deployment processor as a generated resource and lets the runtime
+ * select the features to run without scanning the class path, and evaluate tag, name and line
+ * filters without parsing every feature. The indexed pickles only carry what filtering needs
+ * (URI, locations, name, tags and steps), they can not be executed.
+ */
+public final class PickleIndex {
+
+    /**
+     * Name of the generated class path resource holding the index.
+     */
+    public static final String RESOURCE_NAME = "META-INF/quarkus-cucumber/pickle-index.bin";
+
+    private static final int MAGIC = 0x43554b45;
+    private static final int VERSION = 2;
+    private static final String CLASSPATH_SCHEME = "classpath";
+
+    private final Map<String, IndexedFeature> features;
+
+    private PickleIndex(Map<String, IndexedFeature> features) {
+        this.features = features;
+    }
+
+    /**
+     * Loads the index generated at build time.
+     *
+     * @param classLoader the class loader to look up {@link #RESOURCE_NAME} with
+     * @return the index, or empty if it was not generated
+     */
+    public static Optional<PickleIndex> load(ClassLoader classLoader) {
+        try (InputStream in = classLoader.getResourceAsStream(RESOURCE_NAME)) {
+            if (in == null) {
+                return Optional.empty();
+            }
+            return Optional.of(read(new DataInputStream(in)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + RESOURCE_NAME, e);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return all indexed features, keyed by class path resource name
+     */
+    public Map<String, IndexedFeature> getFeatures() {
+        return features;
+    }
+
+    /**
+     * Computes the checksum used to detect feature files changed after the index was built. It only has to
+     * tell an edited feature file from the indexed one, not withstand deliberate collisions.
+     *
+     * @param source the raw content of a feature file
+     * @return the checksum of the content
+     */
+    static long checksum(byte[] source) {
+        CRC32C crc = new CRC32C();
+        crc.update(source);
+        return crc.getValue();
+    }
+
+    static URI classpathUri(String resourceName) {
+        try {
+            return new URI(CLASSPATH_SCHEME, resourceName, null);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * A feature file known at build time.
+     */
+    public static final class IndexedFeature {
+
+        private final String resourceName;
+        private final int length;
+        private final long checksum;
+        private final List<Pickle> pickles;
+
+        IndexedFeature(String resourceName, int length, long checksum, List<Pickle> pickles) {
+            this.resourceName = resourceName;
+            this.length = length;
+            this.checksum = checksum;
+            this.pickles = pickles;
+        }
+
+        public String getResourceName() {
+            return resourceName;
+        }
+
+        public URI getUri() {
+            return classpathUri(resourceName);
+        }
+
+        /**
+         * @param source the current content of the feature file
+         * @return true if the feature file did not change since the index was built
+         */
+        public boolean matches(byte[] source) {
+            return source.length == length && checksum(source) == checksum;
+        }
+
+        /**
+         * @return the indexed pickles, or empty if the feature could not be parsed at build time
+         */
+        public Optional<List<Pickle>> getPickles() {
+            return Optional.ofNullable(pickles);
+        }
+    }
+
+    public static final class Builder {
+
+        private final Map<String, IndexedFeature> features = new LinkedHashMap<>();
+        private final FeatureParser parser = new FeatureParser(UUID::randomUUID);
+        private boolean ambiguous;
+
+        private Builder() {
+        }
+
+        /**
+         * Parses and adds a feature file. Feature files that fail to parse are still indexed, so that
+         * the runtime parses them and reports the problem as usual.
+         *
+         * @param resourceName the class path resource name of the feature file
+         * @param source the raw content of the feature file
+         * @return this builder
+         */
+        public Builder addFeature(String resourceName, byte[] source) {
+            if (features.containsKey(resourceName)) {
+                // the class loader decides which one wins at runtime, leave that to class path scanning
+                ambiguous = true;
+            }
+            URI uri = classpathUri(resourceName);
+            List<Pickle> pickles;
+            try {
+                pickles = parser.parseResource(new SourceResource(uri, source))
+                        .map(f -> f.getPickles().stream()
+                                .map(p -> (Pickle) IndexedPickle.copyOf(uri, p))
+                                .toList())
+                        .orElse(List.of());
+            } catch (FeatureParserException e) {
+                pickles = null;
+            }
+            features.put(resourceName, new IndexedFeature(resourceName, source.length, checksum(source), pickles));
+            return this;
+        }
+
+        /**
+         * @return all features added so far, keyed by class path resource name
+         */
+        public Map<String, IndexedFeature> getFeatures() {
+            return Collections.unmodifiableMap(features);
+        }
+
+        /**
+         * @return true if the same feature resource exists more than once
+         */
+        public boolean isAmbiguous() {
+            return ambiguous;
+        }
+
+        /**
+         * @return the serialized index, or empty if the same feature resource exists more than once
+         */
+        public Optional<byte[]> build() {
+            if (ambiguous) {
+                return Optional.empty();
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                write(out, features.values());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return Optional.of(bytes.toByteArray());
+        }
+    }
+
+    private static void write(DataOutputStream out, Collection<IndexedFeature> features) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(features.size());
+        for (IndexedFeature feature : features) {
+            out.writeUTF(feature.resourceName);
+            out.writeInt(feature.length);
+            out.writeLong(feature.checksum);
+            out.writeBoolean(feature.pickles != null);
+            if (feature.pickles == null) {
+                continue;
+            }
+            out.writeInt(feature.pickles.size());
+            for (Pickle pickle : feature.pickles) {
+                out.writeUTF(pickle.getKeyword());
+                out.writeUTF(pickle.getLanguage());
+                out.writeUTF(pickle.getName());
+                writeLocation(out, pickle.getLocation());
+                writeLocation(out, pickle.getScenarioLocation());
+                writeLocation(out, pickle.getRuleLocation().orElse(null));
+                writeLocation(out, pickle.getFeatureLocation().orElse(null));
+                writeLocation(out, pickle.getExamplesLocation().orElse(null));
+                writeStrings(out, pickle.getTags());
+                out.writeInt(pickle.getSteps().size());
+                for (Step step : pickle.getSteps()) {
+                    out.writeUTF(step.getKeyword());
+                    out.writeUTF(step.getPreviousGivenWhenThenKeyword());
+                    out.writeUTF(step.getText());
+                    out.writeByte(step.getType().ordinal());
+                    writeLocation(out, step.getLocation());
+                }
+            }
+        }
+    }
+
+    private static PickleIndex read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException(RESOURCE_NAME + " was written by an incompatible version");
+        }
+        int featureCount = in.readInt();
+        Map<String, IndexedFeature> features = new LinkedHashMap<>();
+        for (int i = 0; i < featureCount; i++) {
+            String resourceName = in.readUTF();
+            int length = in.readInt();
+            long checksum = in.readLong();
+            List<Pickle> pickles = null;
+            if (in.readBoolean()) {
+                URI uri = classpathUri(resourceName);
+                int pickleCount = in.readInt();
+                pickles = new ArrayList<>(pickleCount);
+                for (int j = 0; j < pickleCount; j++) {
+                    String keyword = in.readUTF();
+                    String language = in.readUTF();
+                    String name = in.readUTF();
+                    Location location = readLocation(in);
+                    Location scenarioLocation = readLocation(in);
+                    Location ruleLocation = readLocation(in);
+                    Location featureLocation = readLocation(in);
+                    Location examplesLocation = readLocation(in);
+                    List<String> tags = readStrings(in);
+                    int stepCount = in.readInt();
+                    List<Step> steps = new ArrayList<>(stepCount);
+                    for (int k = 0; k < stepCount; k++) {
+                        steps.add(new IndexedStep(in.readUTF(), in.readUTF(), in.readUTF(),
+                                StepType.values()[in.readByte()], readLocation(in)));
+                    }
+                    pickles.add(new IndexedPickle(uri, keyword, language, name, location, scenarioLocation,
+                            ruleLocation, featureLocation, examplesLocation, tags, steps));
+                }
+            }
+            features.put(resourceName, new IndexedFeature(resourceName, length, checksum, pickles));
+        }
+        return new PickleIndex(Collections.unmodifiableMap(features));
+    }
+
+    private static void writeLocation(DataOutputStream out, Location location) throws IOException {
+        out.writeInt(location == null ? -1 : location.getLine());
+        out.writeInt(location == null ? -1 : location.getColumn());
+    }
+
+    private static Location readLocation(DataInputStream in) throws IOException {
+        int line = in.readInt();
+        int column = in.readInt();
+        return line < 0 ? null : new Location(line, column);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> strings) throws IOException {
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            out.writeUTF(string);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        String[] strings = new String[in.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readUTF();
+        }
+        return Arrays.asList(strings);
+    }
+
+    /**
+     * A feature file resource backed by content that was already read.
+     */
+    record SourceResource(URI uri, byte[] source) implements Resource {
+
+        @Override
+        public URI getUri() {
+            return uri;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(source);
+        }
+    }
+
+    private record IndexedPickle(URI uri, String keyword, String language, String name, Location location,
+            Location scenarioLocation, Location ruleLocation, Location featureLocation, Location examplesLocation,
+            List<String> tags, List<Step> steps) implements Pickle {
+
+        static IndexedPickle copyOf(URI uri, Pickle pickle) {
+            return new IndexedPickle(uri, pickle.getKeyword(), pickle.getLanguage(), pickle.getName(),
+                    pickle.getLocation(), pickle.getScenarioLocation(), pickle.getRuleLocation().orElse(null),
+                    pickle.getFeatureLocation().orElse(null), pickle.getExamplesLocation().orElse(null),
+                    List.copyOf(pickle.getTags()),
+                    pickle.getSteps().stream()
+                            .map(s -> (Step) new IndexedStep(s.getKeyword(), s.getPreviousGivenWhenThenKeyword(),
+                                    s.getText(), s.getType(), s.getLocation()))
+                            .toList());
+        }
+
+        @Override
+        public String getKeyword() {
+            return keyword;
+        }
+
+        @Override
+        public String getLanguage() {
+            return language;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Location getLocation() {
+            return location;
+        }
+
+        @Override
+        public Location getScenarioLocation() {
+            return scenarioLocation;
+        }
+
+        @Override
+        public Optional<Location> getRuleLocation() {
+            return Optional.ofNullable(ruleLocation);
+        }
+
+        @Override
+        public Optional<Location> getFeatureLocation() {
+            return Optional.ofNullable(featureLocation);
+        }
+
+        @Override
+        public Optional<Location> getExamplesLocation() {
+            return Optional.ofNullable(examplesLocation);
+        }
+
+        @Override
+        public List<Step> getSteps() {
+            return steps;
+        }
+
+        @Override
+        public List<String> getTags() {
+            return tags;
+        }
+
+        @Override
+        public URI getUri() {
+            return uri;
+        }
+
+        @Override
+        public String getId() {
+            return uri + ":" + location.getLine();
+        }
+    }
+
+    private record IndexedStep(String keyword, String previousGivenWhenThenKeyword, String text, StepType type,
+            Location location) implements Step {
+
+        @Override
+        public StepType getType() {
+            return type;
+        }
+
+        @Override
+        public String getPreviousGivenWhenThenKeyword() {
+            return previousGivenWhenThenKeyword;
+        }
+
+        @Override
+        public String getId() {
+            return location.getLine() + ":" + location.getColumn();
+        }
+
+        @Override
+        public Argument getArgument() {
+            return null;
+        }
+
+        @Override
+        public String getKeyword() {
+            return keyword;
+        }
+
+        @Override
+        public int getLine() {
+            return location.getLine();
+        }
+
+        @Override
+        public Location getLocation() {
+            return location;
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.quarkiverse.cucumber;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import io.cucumber.plugin.event.TestStepFinished;
+
+/**
+ * The outcome of running a single pickle.
+ *
+ * @param failedStep the first step that did not pass, or {@code null} if the scenario passed
+ * @param elapsedTime the time the scenario took, or {@code null} if it never started
+ * @param timeout why the scenario was interrupted, or {@code null} if it finished in time
+ */
+record PickleResult(TestStepFinished failedStep, Duration elapsedTime, TimeoutException timeout) {
+
+    PickleResult withTimeout(TimeoutException timeout) {
+        return new PickleResult(failedStep, elapsedTime, timeout);
+    }
+}
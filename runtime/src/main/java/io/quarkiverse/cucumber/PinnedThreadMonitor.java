@@ -0,0 +1,99 @@
+package io.quarkiverse.cucumber;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.jboss.logging.Logger;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Reports virtual threads pinned to their carrier thread while running scenarios.
+ * <p>
+ * A virtual thread blocking inside a {@code synchronized} block or a native frame keeps its carrier thread
+ * busy, so fewer scenarios run at once than expected. The JFR {@code jdk.VirtualThreadPinned} events are
+ * streamed while the workers run, the first occurrence of every distinct stack is logged as it happens and
+ * a summary of all of them once the workers are done.
+ */
+final class PinnedThreadMonitor implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(PinnedThreadMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    // the JDK's own threshold for this event
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+    private static final int MAX_FRAMES = 12;
+
+    private final RecordingStream stream;
+    private final Map<String, AtomicInteger> pinnedAt = new ConcurrentHashMap<>();
+
+    private PinnedThreadMonitor(RecordingStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Starts streaming the pinned events, if JFR is available.
+     *
+     * @return the monitor, or {@code null} if pinned threads can not be reported
+     */
+    static PinnedThreadMonitor start() {
+        RecordingStream stream;
+        try {
+            stream = new RecordingStream();
+        } catch (RuntimeException | LinkageError e) {
+            LOG.debugf(e, "Pinned virtual threads are not reported, JFR is not available");
+            return null;
+        }
+        PinnedThreadMonitor monitor = new PinnedThreadMonitor(stream);
+        stream.enable(PINNED_EVENT).withThreshold(THRESHOLD).withStackTrace();
+        stream.onEvent(PINNED_EVENT, monitor::onPinned);
+        stream.startAsync();
+        return monitor;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String stack = stack(event.getStackTrace());
+        if (pinnedAt.computeIfAbsent(stack, s -> new AtomicInteger()).getAndIncrement() == 0) {
+            LOG.warnf("Virtual thread %s was pinned to its carrier thread for %dms at%n%s",
+                    event.getThread() == null ? "?" : event.getThread().getJavaName(), event.getDuration().toMillis(),
+                    stack);
+        }
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+        if (pinnedAt.isEmpty()) {
+            return;
+        }
+        int total = pinnedAt.values().stream().mapToInt(AtomicInteger::get).sum();
+        LOG.warnf("Virtual threads were pinned %d times for more than %dms, at %d distinct locations:%n%s", total,
+                THRESHOLD.toMillis(), pinnedAt.size(), pinnedAt.entrySet().stream()
+                        .sorted(Map.Entry.<String, AtomicInteger> comparingByValue(
+                                (a, b) -> Integer.compare(b.get(), a.get())))
+                        .map(e -> e.getValue().get() + " times at" + System.lineSeparator() + e.getKey())
+                        .collect(Collectors.joining(System.lineSeparator())));
+    }
+
+    private static String stack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        String stack = frames.stream()
+                .limit(MAX_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : ""))
+                .collect(Collectors.joining(System.lineSeparator()));
+        return frames.size() > MAX_FRAMES || stackTrace.isTruncated()
+                ? stack + System.lineSeparator() + "\t..."
+                : stack;
+    }
+}
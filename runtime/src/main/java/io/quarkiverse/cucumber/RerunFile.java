@@ -0,0 +1,109 @@
+package io.quarkiverse.cucumber;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.jboss.logging.Logger;
+
+import io.cucumber.core.feature.FeatureWithLines;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.options.RuntimeOptionsBuilder;
+
+/**
+ * The failed scenarios of a test class, kept from one run to the next.
+ * <p>
+ * When {@value #DIRECTORY_PROPERTY_NAME} is set, the failed scenarios of every run are written to a file
+ * named after the test class in that directory, in the format of Cucumber's {@code rerun} plugin. When
+ * {@value #FAILED_PROPERTY_NAME} is {@code true}, only the scenarios listed in that file are run, exactly
+ * as if they were passed as {@code @rerun.txt} feature path.
+ */
+final class RerunFile {
+
+    static final String DIRECTORY_PROPERTY_NAME = "cucumber.execution.rerun.directory";
+    static final String FAILED_PROPERTY_NAME = "cucumber.execution.rerun.failed";
+
+    private static final Logger LOG = Logger.getLogger(RerunFile.class);
+
+    private final Path file;
+    private final boolean failedOnly;
+
+    private RerunFile(Path file, boolean failedOnly) {
+        this.file = file;
+        this.failedOnly = failedOnly;
+    }
+
+    /**
+     * Resolves the rerun file of a test class from the Cucumber property sources.
+     */
+    static RerunFile of(Class<?> testClass) {
+        Map<String, String> properties = CucumberPropertySources.get().properties();
+        String directory = properties.get(DIRECTORY_PROPERTY_NAME);
+        boolean failedOnly = Boolean.parseBoolean(properties.get(FAILED_PROPERTY_NAME));
+        if (directory == null || directory.isBlank()) {
+            if (failedOnly) {
+                throw new IllegalArgumentException(
+                        "'" + FAILED_PROPERTY_NAME + "' requires '" + DIRECTORY_PROPERTY_NAME + "' to be set");
+            }
+            return new RerunFile(null, false);
+        }
+        return new RerunFile(Path.of(directory.trim(), testClass.getName() + ".txt"), failedOnly);
+    }
+
+    /**
+     * Restricts the runtime options to the scenarios that failed in the previous run, if enabled.
+     * <p>
+     * Like Cucumber's rerun files, the failed scenarios replace the feature paths as well as the tag and
+     * name filters.
+     */
+    RuntimeOptions select(RuntimeOptions runtimeOptions) {
+        if (!failedOnly) {
+            return runtimeOptions;
+        }
+        Collection<FeatureWithLines> failed;
+        if (Files.exists(file)) {
+            failed = FeatureWithLines.parseFile(file);
+        } else {
+            LOG.warnf("No failed scenarios were recorded in %s, there is nothing to rerun", file);
+            failed = List.of();
+        }
+        return new RuntimeOptionsBuilder()
+                .addRerun(failed)
+                .build(runtimeOptions);
+    }
+
+    /**
+     * Replaces the recorded scenarios with the ones that failed in this run, if enabled.
+     */
+    void write(Collection<Pickle> failedPickles) {
+        if (file == null) {
+            return;
+        }
+        Map<URI, SortedSet<Integer>> lines = new TreeMap<>();
+        for (Pickle pickle : failedPickles) {
+            lines.computeIfAbsent(pickle.getUri(), uri -> new TreeSet<>()).add(pickle.getLocation().getLine());
+        }
+        StringBuilder content = new StringBuilder();
+        lines.forEach((uri, featureLines) -> {
+            content.append(uri);
+            featureLines.forEach(line -> content.append(':').append(line));
+            content.append('\n');
+        });
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the failed scenarios to " + file, e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkiverse.cucumber;
+
+/**
+ * A {@link ScenarioScope} bean that is reset and reused by later scenarios, instead of being destroyed and
+ * created again for every scenario.
+ * <p>
+ * Implement it for beans holding state that is expensive to build but cheap to clear, such as HTTP
+ * clients, fixture builders or compiled schemas:
+ *
+ * <pre>
+ * &#64;ScenarioScope
+ * public class OrderFixture implements Resettable {
+ *     private final JsonSchema schema = JsonSchema.compile("order.json");
+ *     private final List&lt;Order&gt; orders = new ArrayList&lt;&gt;();
+ *
+ *     &#64;Override
+ *     public void reset() {
+ *         orders.clear();
+ *     }
+ * }
+ * </pre>
+ *
+ * An instance is only ever used by one scenario at a time, scenarios running in parallel get instances of
+ * their own. Instances failing to reset are destroyed, and all pooled instances are destroyed once the
+ * Cucumber run of a test class is over.
+ */
+public interface Resettable {
+
+    /**
+     * Clears all state of the finished scenario, so the next scenario finds the bean as if it was just
+     * created.
+     */
+    void reset();
+}
@@ -0,0 +1,47 @@
+package io.quarkiverse.cucumber;
+
+/**
+ * A {@link ScenarioScope} bean whose state is carried over from the Background of a feature tagged
+ * {@code @background-once} to the scenarios that skip it.
+ * <p>
+ * The snapshot is taken once the Background ran, and restored into a new instance of the bean before
+ * every later scenario of the feature starts its own steps:
+ *
+ * <pre>
+ * &#64;ScenarioScope
+ * public class Catalog implements Restorable&lt;List&lt;String&gt;&gt; {
+ *     private final List&lt;String&gt; productIds = new ArrayList&lt;&gt;();
+ *
+ *     &#64;Override
+ *     public List&lt;String&gt; snapshot() {
+ *         return List.copyOf(productIds);
+ *     }
+ *
+ *     &#64;Override
+ *     public void restore(List&lt;String&gt; snapshot) {
+ *         productIds.addAll(snapshot);
+ *     }
+ * }
+ * </pre>
+ *
+ * The same snapshot is restored into the beans of many scenarios, possibly running in parallel, so it
+ * should not be modified once taken. Beans not implementing this interface start over in every scenario.
+ *
+ * @param <S> the type of the snapshot
+ */
+public interface Restorable<S> {
+
+    /**
+     * Captures the state left by the Background.
+     *
+     * @return the snapshot, restored into the instance of every later scenario
+     */
+    S snapshot();
+
+    /**
+     * Restores the state left by the Background into a new instance of the bean.
+     *
+     * @param snapshot the snapshot returned by {@link #snapshot()}
+     */
+    void restore(S snapshot);
+}
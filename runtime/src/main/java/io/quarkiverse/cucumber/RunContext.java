@@ -0,0 +1,96 @@
+package io.quarkiverse.cucumber;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext;
+
+/**
+ * Context backing {@link RunScope}.
+ * <p>
+ * The context is active on every thread from {@link #activate()}, when a Cucumber run starts, until
+ * {@link #destroy()}, after its after all hooks. All scenarios and hooks of the run share its instances.
+ */
+public class RunContext implements InjectableContext {
+
+    private volatile ContextInstances run;
+
+    /**
+     * Looks up the context instance registered for {@link RunScope}.
+     *
+     * @return the run context of the running container
+     */
+    public static RunContext current() {
+        List<InjectableContext> contexts = Arc.container().getContexts(RunScope.class);
+        for (InjectableContext context : contexts) {
+            if (context instanceof RunContext) {
+                return (RunContext) context;
+            }
+        }
+        throw new IllegalStateException("No " + RunContext.class.getSimpleName() + " registered for "
+                + RunScope.class.getName());
+    }
+
+    /**
+     * Starts a run, with no instances yet.
+     */
+    public synchronized void activate() {
+        destroy();
+        run = new ContextInstances();
+    }
+
+    /**
+     * Destroys all instances of the run and ends it.
+     */
+    @Override
+    public synchronized void destroy() {
+        ContextInstances instances = run;
+        run = null;
+        if (instances != null) {
+            instances.destroy();
+        }
+    }
+
+    @Override
+    public void destroy(Contextual<?> contextual) {
+        activeInstances().destroy(contextual);
+    }
+
+    @Override
+    public Class<? extends Annotation> getScope() {
+        return RunScope.class;
+    }
+
+    @Override
+    public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        return activeInstances().get(contextual, creationalContext);
+    }
+
+    @Override
+    public <T> T get(Contextual<T> contextual) {
+        return get(contextual, null);
+    }
+
+    @Override
+    public boolean isActive() {
+        return run != null;
+    }
+
+    @Override
+    public ContextState getState() {
+        return activeInstances().state();
+    }
+
+    private ContextInstances activeInstances() {
+        ContextInstances instances = run;
+        if (instances == null) {
+            throw new ContextNotActiveException("No Cucumber run is in progress");
+        }
+        return instances;
+    }
+}
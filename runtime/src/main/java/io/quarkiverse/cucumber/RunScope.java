@@ -0,0 +1,22 @@
+package io.quarkiverse.cucumber;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.context.NormalScope;
+
+/**
+ * Scope of beans shared by all scenarios of a Cucumber run, destroyed after the after all hooks.
+ *
+ * @see RunContext
+ */
+@NormalScope
+@Retention(RUNTIME)
+@Target({ TYPE, METHOD, FIELD })
+public @interface RunScope {
+}
@@ -0,0 +1,85 @@
+package io.quarkiverse.cucumber;
+
+import java.time.Instant;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import io.cucumber.core.eventbus.AbstractEventBus;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.runner.Runner;
+import io.cucumber.core.runtime.RunnerSupplier;
+import io.cucumber.core.runtime.SynchronizedEventBus;
+
+/**
+ * The Cucumber runners of virtual worker threads, which run a single scenario each.
+ * <p>
+ * Rather than preparing a runner for every thread, a scenario takes an idle runner on its first
+ * {@link RunnerSupplier#get()} and hands it back through {@link #checkIn()} once it finished. As many
+ * runners exist as scenarios were in flight at once, and each keeps its glue and the step definitions
+ * it matched across the scenarios it runs, like the runner of a platform worker.
+ */
+final class RunnerPool {
+
+    private final Queue<Runner> idle = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Runner> checkedOut = new ThreadLocal<>();
+
+    /**
+     * @param createRunner creates a runner when none is idle
+     * @return the supplier of the runner checked out by the calling thread
+     */
+    RunnerSupplier supplier(Supplier<Runner> createRunner) {
+        return () -> {
+            Runner runner = checkedOut.get();
+            if (runner == null) {
+                runner = idle.poll();
+                if (runner == null) {
+                    runner = createRunner.get();
+                }
+                checkedOut.set(runner);
+            }
+            return runner;
+        };
+    }
+
+    /**
+     * Hands the runner checked out by the calling thread back to the pool, if it took one.
+     */
+    void checkIn() {
+        Runner runner = checkedOut.get();
+        if (runner != null) {
+            checkedOut.remove();
+            idle.add(runner);
+        }
+    }
+
+    /**
+     * The bus of a pooled runner, like the one Cucumber gives the runner of every thread: its handlers
+     * only see the events of that runner, which are passed on to the bus shared by the run.
+     */
+    static final class RunnerEventBus extends AbstractEventBus {
+
+        private final SynchronizedEventBus parent;
+
+        RunnerEventBus(EventBus parent) {
+            this.parent = SynchronizedEventBus.synchronize(parent);
+        }
+
+        @Override
+        public <T> void send(T event) {
+            super.send(event);
+            parent.send(event);
+        }
+
+        @Override
+        public Instant getInstant() {
+            return parent.getInstant();
+        }
+
+        @Override
+        public UUID generateId() {
+            return parent.generateId();
+        }
+    }
+}
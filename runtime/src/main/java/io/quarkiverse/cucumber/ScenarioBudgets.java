@@ -0,0 +1,246 @@
+package io.quarkiverse.cucumber;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Assertions;
+
+import io.cucumber.core.gherkin.Pickle;
+import io.quarkus.runtime.configuration.DurationConverter;
+
+/**
+ * Time limits of scenarios.
+ * <p>
+ * A scenario exceeding its budget fails, or only logs a warning, once it has finished. The budget of a
+ * scenario is taken from a {@code @budget(2s)} tag on the scenario or its feature, otherwise from
+ * {@link CucumberOptions#budget()} or {@value #BUDGET_PROPERTY_NAME}.
+ * <p>
+ * A scenario exceeding the hard timeout, from {@link CucumberOptions#timeout()} or
+ * {@value #TIMEOUT_PROPERTY_NAME}, is interrupted while it runs. A scenario ignoring the interrupt is abandoned
+ * on its thread, so a hung step can not stall the run.
+ */
+final class ScenarioBudgets {
+
+    static final String BUDGET_PROPERTY_NAME = "cucumber.execution.budget";
+    static final String BUDGET_EXCEEDED_PROPERTY_NAME = "cucumber.execution.budget.exceeded";
+    static final String TIMEOUT_PROPERTY_NAME = "cucumber.execution.timeout";
+
+    private static final Logger LOG = Logger.getLogger(ScenarioBudgets.class);
+
+    private static final Pattern BUDGET_TAG = Pattern.compile("@budget\\((.+)\\)");
+
+    // how long an interrupted scenario may take to give up before it is abandoned
+    static final int GRACE_PERIOD_SECONDS = 5;
+
+    private static final ThreadLocal<ScenarioThread> SCENARIO_THREADS = ThreadLocal.withInitial(ScenarioThread::new);
+
+    private final Duration defaultBudget;
+    private final boolean warnOnly;
+    private final Duration timeout;
+
+    private ScenarioBudgets(Duration defaultBudget, boolean warnOnly, Duration timeout) {
+        this.defaultBudget = defaultBudget;
+        this.warnOnly = warnOnly;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Resolves the time limits of a test class, {@link CucumberOptions} winning over the Cucumber
+     * property sources.
+     */
+    static ScenarioBudgets of(Class<? extends CucumberQuarkusTest> testClassWithCucumberOptions) {
+        Map<String, String> properties = CucumberPropertySources.get().properties();
+        String budget = properties.get(BUDGET_PROPERTY_NAME);
+        String timeout = properties.get(TIMEOUT_PROPERTY_NAME);
+        if (testClassWithCucumberOptions != null) {
+            CucumberOptions options = testClassWithCucumberOptions.getAnnotation(CucumberOptions.class);
+            if (!options.budget().isBlank()) {
+                budget = options.budget();
+            }
+            if (!options.timeout().isBlank()) {
+                timeout = options.timeout();
+            }
+        }
+        return new ScenarioBudgets(
+                parse(BUDGET_PROPERTY_NAME, budget),
+                isWarnOnly(properties.get(BUDGET_EXCEEDED_PROPERTY_NAME)),
+                parse(TIMEOUT_PROPERTY_NAME, timeout));
+    }
+
+    /**
+     * Runs a pickle on the scenario thread of the calling thread, interrupting it once it exceeds the hard
+     * timeout. If the scenario is still running {@value #GRACE_PERIOD_SECONDS} seconds after the interrupt,
+     * the calling thread stops waiting for it and the scenario thread is abandoned, the next scenario gets a
+     * new one.
+     *
+     * @return the result of the pickle, with the reason it was interrupted if it timed out
+     */
+    PickleResult run(Pickle pickle, Callable<PickleResult> execution) throws Exception {
+        if (timeout == null) {
+            return execution.call();
+        }
+        ScenarioThread scenarioThread = SCENARIO_THREADS.get();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Future<PickleResult> result = scenarioThread.executor.submit(() -> {
+            // the scenario thread may outlive the test class, whose Quarkus class loader loads the glue
+            Thread.currentThread().setContextClassLoader(classLoader);
+            return execution.call();
+        });
+        try {
+            return result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            TimeoutException timedOut = new TimeoutException(description(pickle) + " did not finish within "
+                    + format(timeout) + ", it was interrupted at");
+            // where the scenario was stuck is more useful than where the calling thread noticed it
+            timedOut.setStackTrace(scenarioThread.thread.getStackTrace());
+            scenarioThread.thread.interrupt();
+            try {
+                return result.get(GRACE_PERIOD_SECONDS, TimeUnit.SECONDS).withTimeout(timedOut);
+            } catch (TimeoutException ignored) {
+                SCENARIO_THREADS.remove();
+                scenarioThread.executor.shutdown();
+                LOG.warnf("%s ignored the interrupt, its thread %s is abandoned and left running", description(pickle),
+                        scenarioThread.thread.getName());
+                return new PickleResult(null, null, timedOut);
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw (Exception) e.getCause();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Fails, or warns, if a finished scenario took longer than its budget.
+     */
+    void check(Pickle pickle, PickleResult result) {
+        check(pickle, result.elapsedTime(), "");
+    }
+
+    /**
+     * Fails, or warns, if the 95th percentile of the durations of a scenario run in a load test exceeds
+     * its budget.
+     */
+    void check(Pickle pickle, ScenarioLoad.Statistics statistics) {
+        check(pickle, statistics.p95(), " at the 95th percentile of " + statistics.runs() + " runs");
+    }
+
+    private void check(Pickle pickle, Duration elapsedTime, String measure) {
+        if (elapsedTime == null) {
+            return;
+        }
+        Optional<Duration> budget = budget(pickle);
+        if (budget.isEmpty() || elapsedTime.compareTo(budget.get()) <= 0) {
+            return;
+        }
+        String message = "Scenario '" + pickle.getName() + "' in " + pickle.getUri() + " at line "
+                + pickle.getLocation().getLine() + " took " + format(elapsedTime) + measure + ", exceeding its budget of "
+                + format(budget.get());
+        if (warnOnly) {
+            LOG.warn(message);
+        } else {
+            Assertions.fail(message);
+        }
+    }
+
+    Optional<Duration> budget(Pickle pickle) {
+        List<String> tags = pickle.getTags();
+        // scenario tags come after the tags of its feature, so the scenario has the last word
+        for (int i = tags.size() - 1; i >= 0; i--) {
+            Matcher matcher = BUDGET_TAG.matcher(tags.get(i));
+            if (matcher.matches()) {
+                return Optional.of(parse(tags.get(i), matcher.group(1)));
+            }
+        }
+        return Optional.ofNullable(defaultBudget);
+    }
+
+    static Duration parse(String source, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return DurationConverter.parseDuration(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Failed to parse '" + source + "' with value '" + value + "'", e);
+        }
+    }
+
+    private static boolean isWarnOnly(String value) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "fail":
+                return false;
+            case "warn":
+                return true;
+            default:
+                throw new IllegalArgumentException("Failed to parse '" + BUDGET_EXCEEDED_PROPERTY_NAME + "' with value '"
+                        + value + "', expected 'fail' or 'warn'");
+        }
+    }
+
+    static String format(Duration duration) {
+        long millis = duration.toMillis();
+        if (millis < 1000) {
+            return millis + "ms";
+        }
+        return BigDecimal.valueOf(millis, 3).stripTrailingZeros().toPlainString() + "s";
+    }
+
+    private static String description(Pickle pickle) {
+        return "Scenario '" + pickle.getName() + "' in " + pickle.getUri() + " at line " + pickle.getLocation().getLine();
+    }
+
+    /**
+     * The thread running the scenarios of a calling thread while a hard timeout is set, which the calling
+     * thread can stop waiting for. It is kept between scenarios, so that it keeps the Cucumber runner of
+     * a platform worker, and exits once it was idle for a while.
+     */
+    private static final class ScenarioThread {
+
+        private final ExecutorService executor;
+        private volatile Thread thread;
+
+        ScenarioThread() {
+            Thread caller = Thread.currentThread();
+            // a virtual worker blocked on I/O must not pin a platform thread while it waits
+            ThreadFactory threadFactory = ParallelPickleExecutor.isVirtual(caller)
+                    ? ParallelPickleExecutor.virtualThreadFactory()
+                    : null;
+            this.executor = new ThreadPoolExecutor(0, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread created;
+                if (threadFactory == null) {
+                    created = new Thread(r);
+                    created.setDaemon(true);
+                } else {
+                    created = threadFactory.newThread(r);
+                }
+                created.setName(caller.getName() + "-scenario");
+                thread = created;
+                return created;
+            });
+        }
+    }
+}
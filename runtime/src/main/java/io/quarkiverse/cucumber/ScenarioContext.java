@@ -1,71 +1,146 @@
 package io.quarkiverse.cucumber;
 
 import java.lang.annotation.Annotation;
-import java.util.Map;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
 
+import jakarta.enterprise.context.ContextNotActiveException;
 import jakarta.enterprise.context.spi.Contextual;
 import jakarta.enterprise.context.spi.CreationalContext;
 
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
 import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.impl.ContextInstanceHandleImpl;
+import io.quarkus.arc.impl.CreationalContextImpl;
 
+/**
+ * Context backing {@link ScenarioScope}.
+ * <p>
+ * Instances are stored per scenario. A scenario is bound to the thread running it through
+ * {@link #activate(Object)}, so concurrently running scenarios never share or destroy each
+ * other's beans. Outside an activated scenario the context is not active.
+ * <p>
+ * Instances of {@link Resettable} beans are not destroyed with their scenario but reset and pooled, a
+ * later scenario takes one from the pool before creating a new one. A reused instance is handed to the
+ * creational context of the scenario reusing it, together with its dependent instances.
+ */
 public class ScenarioContext implements InjectableContext {
 
-    private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> instances = new ConcurrentHashMap<>();
-    private final Lock beanLock = new ReentrantLock();
+    private static final Logger LOG = Logger.getLogger(ScenarioContext.class);
+
+    private final ConcurrentMap<Object, ScenarioInstances> scenarios = new ConcurrentHashMap<>();
+    private final ThreadLocal<ScenarioInstances> activeScenario = new ThreadLocal<>();
+    private final ConcurrentMap<Contextual<?>, Queue<ContextInstanceHandle<?>>> pool = new ConcurrentHashMap<>();
+    private final ContextInstances.InstanceFactory reuseOrCreate = this::reuseOrCreate;
+
+    /**
+     * Looks up the context instance registered for {@link ScenarioScope}.
+     *
+     * @return the scenario context of the running container
+     */
+    public static ScenarioContext current() {
+        List<InjectableContext> contexts = Arc.container().getContexts(ScenarioScope.class);
+        for (InjectableContext context : contexts) {
+            if (context instanceof ScenarioContext) {
+                return (ScenarioContext) context;
+            }
+        }
+        throw new IllegalStateException("No " + ScenarioContext.class.getSimpleName() + " registered for "
+                + ScenarioScope.class.getName());
+    }
+
+    /**
+     * Binds the given scenario to the current thread, creating its instance storage on first use.
+     * <p>
+     * Activating the same scenario on another thread gives that thread access to the same instances.
+     *
+     * @param scenarioId the identifier of the scenario, usually the id of the Cucumber test case
+     */
+    public void activate(Object scenarioId) {
+        activeScenario.set(scenarios.computeIfAbsent(scenarioId,
+                id -> new ScenarioInstances(id, new ContextInstances(reuseOrCreate))));
+    }
+
+    /**
+     * Unbinds the current thread from its scenario, without destroying any instances.
+     */
+    public void deactivate() {
+        activeScenario.remove();
+    }
 
+    /**
+     * Destroys all instances of the scenario active on the current thread, {@link Resettable} instances
+     * are reset and pooled instead.
+     */
     @Override
     public void destroy() {
-        for (var contextInstanceHandle : instances.values()) {
-            contextInstanceHandle.destroy();
+        var scenario = activeScenario.get();
+        if (scenario == null) {
+            return;
         }
-        instances.clear();
+        scenarios.remove(scenario.id());
+        scenario.instances().destroy(this::release);
     }
 
-    @Override
-    public void destroy(Contextual<?> contextual) {
-        try (var contextInstanceHandle = instances.remove(contextual)) {
-            if (contextInstanceHandle != null) {
-                contextInstanceHandle.destroy();
+    /**
+     * Destroys all pooled instances of {@link Resettable} beans.
+     */
+    public void destroyPooled() {
+        for (var instances : pool.values()) {
+            for (var instance = instances.poll(); instance != null; instance = instances.poll()) {
+                instance.destroy();
             }
         }
     }
 
+    private void release(ContextInstanceHandle<?> instance) {
+        if (instance.get() instanceof Resettable resettable) {
+            try {
+                resettable.reset();
+                pool.computeIfAbsent(instance.getBean(), c -> new ConcurrentLinkedQueue<>()).add(instance);
+                return;
+            } catch (RuntimeException e) {
+                LOG.warnf(e, "Failed to reset %s, it is destroyed instead", instance.getBean());
+            }
+        }
+        instance.destroy();
+    }
+
+    @Override
+    public void destroy(Contextual<?> contextual) {
+        activeInstances().destroy(contextual);
+    }
+
     @Override
     public Class<? extends Annotation> getScope() {
         return ScenarioScope.class;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
-        var contextInstanceHandle = (ContextInstanceHandle<T>) instances.get(contextual);
-        if (contextInstanceHandle != null) {
-            return contextInstanceHandle.get();
-        } else if (creationalContext != null) {
-            beanLock.lock();
-            try {
-                T createdInstance = contextual.create(creationalContext);
-                instances.put(
-                        contextual,
-                        new ContextInstanceHandleImpl<>(
-                                (InjectableBean<T>) contextual,
-                                createdInstance,
-                                creationalContext));
-                return createdInstance;
-            } finally {
-                beanLock.unlock();
-            }
-        } else {
-            return null;
+        return activeInstances().get(contextual, creationalContext);
+    }
+
+    /**
+     * Takes the instance of a bean from the pool, or creates it if none is pooled.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> ContextInstanceHandle<T> reuseOrCreate(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        var pooled = pool.get(contextual);
+        var reused = pooled == null ? null : (PooledInstanceHandle<T>) pooled.poll();
+        if (reused != null) {
+            return reused.reuse(creationalContext);
         }
+        InjectableBean<T> bean = (InjectableBean<T>) contextual;
+        return new PooledInstanceHandle<>(bean, bean.create(creationalContext), creationalContext, creationalContext);
     }
 
     @Override
@@ -75,21 +150,63 @@ public class ScenarioContext implements InjectableContext {
 
     @Override
     public boolean isActive() {
-        return true;
+        return activeScenario.get() != null;
     }
 
     @Override
     public ContextState getState() {
-        return new ScenarioContextState(instances);
+        return activeInstances().state();
     }
 
-    private record ScenarioContextState(
-            Map<Contextual<?>, ContextInstanceHandle<?>> instances) implements ContextState {
+    private ContextInstances activeInstances() {
+        var scenario = activeScenario.get();
+        if (scenario == null) {
+            throw new ContextNotActiveException("No scenario is active on thread " + Thread.currentThread().getName());
+        }
+        return scenario.instances();
+    }
 
-        @Override
-        public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return instances.values().stream()
-                    .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+    private record ScenarioInstances(Object id, ContextInstances instances) {
+    }
+
+    /**
+     * The handle of a scenario scoped instance, which may be pooled and reused by a later scenario.
+     * <p>
+     * The dependent instances of a bean, e.g. its {@code @Dependent} dependencies, belong to the creational
+     * context it was created with. A reused instance belongs to the creational context of the scenario that
+     * reused it instead, which takes over the dependent instances, so they are destroyed exactly once, along
+     * with the instance itself.
+     */
+    private static final class PooledInstanceHandle<T> extends ContextInstanceHandleImpl<T> {
+
+        // holds the dependent instances created along with the instance
+        private final CreationalContext<T> origin;
+
+        PooledInstanceHandle(InjectableBean<T> bean, T instance, CreationalContext<T> creationalContext,
+                CreationalContext<T> origin) {
+            super(bean, instance, creationalContext);
+            this.origin = origin;
+        }
+
+        /**
+         * @return a handle of the same instance, destroyed along with the given creational context
+         */
+        PooledInstanceHandle<T> reuse(CreationalContext<T> creationalContext) {
+            if (creationalContext != origin) {
+                CreationalContextImpl.unwrap(creationalContext).addDependentInstance(new InstanceHandle<Object>() {
+
+                    @Override
+                    public Object get() {
+                        return origin;
+                    }
+
+                    @Override
+                    public void destroy() {
+                        origin.release();
+                    }
+                });
+            }
+            return new PooledInstanceHandle<>(getBean(), get(), creationalContext, origin);
         }
     }
 }
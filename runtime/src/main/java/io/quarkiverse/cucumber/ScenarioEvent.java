@@ -1,6 +1,7 @@
 package io.quarkiverse.cucumber;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Objects;
 
@@ -37,16 +38,29 @@ public class ScenarioEvent {
 
     private final TestCase testCase;
     private final Status status;
+    private final Duration elapsedTime;
 
     /**
      * Creates a new scenario event.
      *
      * @param testCase the Cucumber test case
      * @param status the current status (may be null for BeforeScenario events)
+     * @param elapsedTime the time the scenario took (may be null for BeforeScenario events)
      */
-    public ScenarioEvent(TestCase testCase, Status status) {
+    public ScenarioEvent(TestCase testCase, Status status, Duration elapsedTime) {
         this.testCase = Objects.requireNonNull(testCase, "testCase must not be null");
         this.status = status;
+        this.elapsedTime = elapsedTime;
+    }
+
+    /**
+     * Creates a new scenario event without elapsed time.
+     *
+     * @param testCase the Cucumber test case
+     * @param status the current status (may be null for BeforeScenario events)
+     */
+    public ScenarioEvent(TestCase testCase, Status status) {
+        this(testCase, status, null);
     }
 
     /**
@@ -106,6 +120,18 @@ public class ScenarioEvent {
         return status;
     }
 
+    /**
+     * Returns the time the scenario took, from the start of its first hook or step to the end of its last.
+     * <p>
+     * Note: This is only populated for {@link AfterScenario} events.
+     * For {@link BeforeScenario} events, this returns {@code null}.
+     *
+     * @return the elapsed time, or null if not yet executed
+     */
+    public Duration getElapsedTime() {
+        return elapsedTime;
+    }
+
     /**
      * Checks if the scenario has failed.
      * <p>
@@ -149,6 +175,7 @@ public class ScenarioEvent {
                 ", uri=" + getUri() +
                 ", line=" + getLine() +
                 ", status=" + status +
+                ", elapsedTime=" + elapsedTime +
                 '}';
     }
 }
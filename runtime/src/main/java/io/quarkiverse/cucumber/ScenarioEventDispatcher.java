@@ -0,0 +1,146 @@
+package io.quarkiverse.cucumber;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.runner.Runner;
+import io.cucumber.core.runtime.CucumberExecutionContext;
+import io.cucumber.plugin.event.EventHandler;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.quarkus.arc.Arc;
+
+/**
+ * Routes the events of running scenarios for the whole Cucumber run.
+ * <p>
+ * The dispatcher binds every scenario and its feature to the {@link ScenarioContext} and
+ * {@link FeatureContext} of the thread running it, fires the {@link BeforeScenario} and
+ * {@link AfterScenario} CDI events and records the first step that did not pass. Scenarios of features
+ * tagged {@value FeatureBackgrounds#TAG} run without their Background once it ran. Its handlers are
+ * registered once on the bus of every runner, and step results are routed by test case id, so any number
+ * of scenarios can be in flight at once.
+ */
+class ScenarioEventDispatcher {
+
+    private final boolean backgroundsOnce;
+
+    private final Set<EventBus> buses = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<UUID, ScenarioRun> inFlight = new ConcurrentHashMap<>();
+    // test cases start on the thread running their pickle, this hands the run back to that thread
+    private final ThreadLocal<ScenarioRun> startedOnThread = new ThreadLocal<>();
+
+    private final EventHandler<TestCaseStarted> testCaseStarted = this::onTestCaseStarted;
+    private final EventHandler<TestStepFinished> testStepFinished = this::onTestStepFinished;
+    private final EventHandler<TestCaseFinished> testCaseFinished = this::onTestCaseFinished;
+
+    /**
+     * @param backgroundsOnce whether the scenarios of tagged features skip their Background once it ran
+     */
+    ScenarioEventDispatcher(boolean backgroundsOnce) {
+        this.backgroundsOnce = backgroundsOnce;
+    }
+
+    /**
+     * Runs a single pickle on the runner of the calling thread.
+     *
+     * @return the first step that did not pass and the time the scenario took
+     */
+    PickleResult runPickle(CucumberExecutionContext context, Pickle pickle) {
+        FeatureContext featureContext = FeatureContext.current();
+        // the feature is bound before the test case starts, its Backgrounds decide which steps run
+        featureContext.activate(pickle.getUri());
+        try {
+            Pickle steps = backgroundsOnce && pickle.getTags().contains(FeatureBackgrounds.TAG)
+                    ? FeatureBackgrounds.current().start(pickle)
+                    : pickle;
+            context.runTestCase(runner -> {
+                register(runner);
+                runner.runPickle(steps);
+            });
+            ScenarioRun run = startedOnThread.get();
+            return run == null
+                    ? new PickleResult(null, null, null)
+                    : new PickleResult(run.firstFailedStep.get(), run.elapsedTime, null);
+        } finally {
+            if (backgroundsOnce) {
+                FeatureBackgrounds.finish();
+            }
+            startedOnThread.remove();
+            featureContext.deactivate();
+        }
+    }
+
+    private void register(Runner runner) {
+        // in parallel mode every worker has its own runner, with a bus local to that worker
+        EventBus bus = runner.getBus();
+        if (buses.add(bus)) {
+            bus.registerHandlerFor(TestCaseStarted.class, testCaseStarted);
+            bus.registerHandlerFor(TestStepFinished.class, testStepFinished);
+            bus.registerHandlerFor(TestCaseFinished.class, testCaseFinished);
+        }
+    }
+
+    private void onTestCaseStarted(TestCaseStarted event) {
+        ScenarioRun run = new ScenarioRun();
+        inFlight.put(event.getTestCase().getId(), run);
+        startedOnThread.set(run);
+        // the scenario is bound to the thread running it, before any observer or step can touch its beans
+        ScenarioContext.current().activate(event.getTestCase().getId());
+        fireScenarioEvent(new ScenarioEvent(event.getTestCase()), BeforeScenario.Literal.INSTANCE);
+    }
+
+    private void onTestStepFinished(TestStepFinished event) {
+        if (event.getResult().getStatus() == Status.PASSED) {
+            return;
+        }
+        ScenarioRun run = inFlight.get(event.getTestCase().getId());
+        if (run != null) {
+            // save the first failed test step, so that we can get the line number of the cucumber file
+            run.firstFailedStep.compareAndSet(null, event);
+        }
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        ScenarioRun run = inFlight.get(event.getTestCase().getId());
+        if (run != null) {
+            run.elapsedTime = event.getResult().getDuration();
+        }
+        var scenarioContext = ScenarioContext.current();
+        try {
+            fireScenarioEvent(
+                    new ScenarioEvent(event.getTestCase(), event.getResult().getStatus(), event.getResult().getDuration()),
+                    AfterScenario.Literal.INSTANCE);
+        } finally {
+            scenarioContext.destroy();
+            scenarioContext.deactivate();
+            inFlight.remove(event.getTestCase().getId());
+        }
+    }
+
+    /**
+     * Fires a CDI event for scenario lifecycle hooks.
+     *
+     * @param event the scenario event payload
+     * @param qualifier the qualifier annotation (BeforeScenario or AfterScenario)
+     */
+    static void fireScenarioEvent(ScenarioEvent event, Annotation qualifier) {
+        Arc.container().beanManager().getEvent()
+                .select(ScenarioEvent.class, qualifier)
+                .fire(event);
+    }
+
+    private static final class ScenarioRun {
+
+        private final AtomicReference<TestStepFinished> firstFailedStep = new AtomicReference<>();
+        private volatile Duration elapsedTime;
+    }
+}
@@ -0,0 +1,350 @@
+package io.quarkiverse.cucumber;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.quarkus.runtime.configuration.DurationConverter;
+
+/**
+ * Replays the selected scenarios from several workers at once, as a load test of the application.
+ * <p>
+ * With {@value #WORKERS_PROPERTY_NAME} or {@link CucumberOptions#loadWorkers()} set, the workers take
+ * turns at the selected scenarios, in their order, until every scenario ran {@value #ITERATIONS_PROPERTY_NAME}
+ * times or {@value #DURATION_PROPERTY_NAME} has elapsed, whichever comes first. Every scenario runs once if
+ * neither is set. The durations of every run of a scenario, as seen by its worker, and of every step are
+ * recorded, then the throughput and latency percentiles are logged and written as JSON to
+ * {@value #REPORT_PROPERTY_NAME}.
+ */
+final class ScenarioLoad {
+
+    static final String WORKERS_PROPERTY_NAME = "cucumber.execution.load.workers";
+    static final String DURATION_PROPERTY_NAME = "cucumber.execution.load.duration";
+    static final String ITERATIONS_PROPERTY_NAME = "cucumber.execution.load.iterations";
+    static final String REPORT_PROPERTY_NAME = "cucumber.execution.load.report";
+
+    private static final Logger LOG = Logger.getLogger(ScenarioLoad.class);
+
+    private static final ScenarioLoad DISABLED = new ScenarioLoad(0, null, 0, null);
+
+    private final int workers;
+    private final Duration duration;
+    private final int iterations;
+    private final Path report;
+
+    private final Map<Pickle, ScenarioRuns> scenarios = new IdentityHashMap<>();
+    private final ConcurrentMap<StepDefinition, DurationHistogram> steps = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private long elapsedNanos;
+
+    private ScenarioLoad(int workers, Duration duration, int iterations, Path report) {
+        this.workers = workers;
+        this.duration = duration;
+        this.iterations = iterations;
+        this.report = report;
+    }
+
+    /**
+     * Resolves the load test of a test class, {@link CucumberOptions} winning over the Cucumber property
+     * sources.
+     *
+     * @return a disabled load test unless there is a positive number of workers
+     */
+    static ScenarioLoad of(Class<? extends CucumberQuarkusTest> testClassWithCucumberOptions) {
+        Map<String, String> properties = CucumberPropertySources.get().properties();
+        String workers = properties.get(WORKERS_PROPERTY_NAME);
+        String duration = properties.get(DURATION_PROPERTY_NAME);
+        String iterations = properties.get(ITERATIONS_PROPERTY_NAME);
+        String report = properties.get(REPORT_PROPERTY_NAME);
+        if (testClassWithCucumberOptions != null) {
+            CucumberOptions options = testClassWithCucumberOptions.getAnnotation(CucumberOptions.class);
+            if (options.loadWorkers() > 0) {
+                workers = String.valueOf(options.loadWorkers());
+            }
+            if (!options.loadDuration().isBlank()) {
+                duration = options.loadDuration();
+            }
+            if (options.loadIterations() > 0) {
+                iterations = String.valueOf(options.loadIterations());
+            }
+        }
+        int parsedWorkers = parse(WORKERS_PROPERTY_NAME, workers);
+        if (parsedWorkers <= 0) {
+            return DISABLED;
+        }
+        Duration parsedDuration = null;
+        if (duration != null && !duration.isBlank()) {
+            try {
+                parsedDuration = DurationConverter.parseDuration(duration.trim());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                        "Failed to parse '" + DURATION_PROPERTY_NAME + "' with value '" + duration + "'", e);
+            }
+        }
+        int parsedIterations = parse(ITERATIONS_PROPERTY_NAME, iterations);
+        return new ScenarioLoad(parsedWorkers, parsedDuration,
+                parsedIterations > 0 || parsedDuration != null ? parsedIterations : 1,
+                report == null || report.isBlank() ? null : Path.of(report.trim()));
+    }
+
+    /**
+     * @return true if the scenarios run as a load test
+     */
+    boolean isEnabled() {
+        return workers > 0;
+    }
+
+    /**
+     * @return the number of workers running scenarios at once
+     */
+    int workers() {
+        return workers;
+    }
+
+    /**
+     * Times the steps of the scenarios run by the load test.
+     *
+     * @param bus the bus the runners of all workers publish to
+     */
+    void listen(EventBus bus) {
+        bus.registerHandlerFor(TestStepFinished.class, event -> {
+            // undefined and ambiguous steps have no step definition to time
+            if (running && event.getTestStep() instanceof PickleStepTestStep step && step.getPattern() != null) {
+                steps.computeIfAbsent(new StepDefinition(step.getPattern(), step.getCodeLocation()),
+                        s -> new DurationHistogram()).record(event.getResult().getDuration().toNanos());
+            }
+        });
+    }
+
+    /**
+     * Runs the load test, then reports its results.
+     *
+     * @param pickles the selected scenarios, in the order the workers take turns at them
+     * @param scenario runs a scenario on the calling thread and fails if it did not pass
+     */
+    void run(List<Pickle> pickles, Function<Pickle, Callable<?>> scenario) throws InterruptedException {
+        // the options of a test class are kept, only the results of its latest run are
+        scenarios.clear();
+        steps.clear();
+        pickles.forEach(p -> scenarios.put(p, new ScenarioRuns()));
+        if (pickles.isEmpty()) {
+            return;
+        }
+        long maxRuns = iterations > 0 ? (long) iterations * pickles.size() : Long.MAX_VALUE;
+        long start = System.nanoTime();
+        long deadline = duration == null ? 0 : start + duration.toNanos();
+        AtomicLong next = new AtomicLong();
+        Callable<Void> worker = () -> {
+            for (long run = next.getAndIncrement(); run < maxRuns
+                    && (duration == null || System.nanoTime() - deadline < 0); run = next.getAndIncrement()) {
+                Pickle pickle = pickles.get((int) (run % pickles.size()));
+                ScenarioRuns runs = scenarios.get(pickle);
+                long started = System.nanoTime();
+                try {
+                    scenario.apply(pickle).call();
+                } catch (Exception | Error e) {
+                    runs.failed(e);
+                } finally {
+                    runs.durations.record(System.nanoTime() - started);
+                }
+            }
+            return null;
+        };
+
+        LOG.infof("Load test of %d scenarios with %d workers, %s", pickles.size(), workers, limits());
+        ExecutorService executor = Executors.newFixedThreadPool(workers, new ParallelPickleExecutor.WorkerThreadFactory(null));
+        running = true;
+        try {
+            List<Future<Void>> futures = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(worker));
+            }
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // failures of a scenario are recorded, anything else stops the load test
+                    throw new IllegalStateException("A load test worker failed", e.getCause());
+                }
+            }
+        } finally {
+            running = false;
+            executor.shutdownNow();
+            elapsedNanos = System.nanoTime() - start;
+        }
+        report(pickles);
+    }
+
+    /**
+     * @return the results of all runs of a scenario
+     */
+    Statistics statistics(Pickle pickle) {
+        ScenarioRuns runs = scenarios.get(pickle);
+        if (runs == null) {
+            return new Statistics(0, 0, null, null);
+        }
+        DurationHistogram.Snapshot snapshot = runs.durations.snapshot();
+        return new Statistics(snapshot.count(), runs.failures.get(), runs.firstFailure.get(),
+                snapshot.count() == 0 ? null : Duration.ofNanos(snapshot.p95()));
+    }
+
+    private String limits() {
+        String runs = iterations > 0 ? iterations + (iterations == 1 ? " run" : " runs") + " of every scenario" : null;
+        String time = duration == null ? null : "for at most " + duration.toMillis() / 1000.0 + "s";
+        return runs == null ? time : time == null ? runs : runs + " " + time;
+    }
+
+    private void report(List<Pickle> pickles) {
+        List<Row> scenarioRows = new ArrayList<>();
+        long runs = 0;
+        long failures = 0;
+        for (Pickle pickle : pickles) {
+            ScenarioRuns scenarioRuns = scenarios.get(pickle);
+            DurationHistogram.Snapshot snapshot = scenarioRuns.durations.snapshot();
+            runs += snapshot.count();
+            failures += scenarioRuns.failures.get();
+            scenarioRows.add(new Row(pickle.getName(), ScenarioTimings.location(pickle), snapshot,
+                    scenarioRuns.failures.get()));
+        }
+        List<Row> stepRows = new ArrayList<>();
+        steps.forEach((step, histogram) -> stepRows.add(new Row(step.pattern(), step.location(), histogram.snapshot(), 0)));
+        Comparator<Row> slowestFirst = Comparator.comparingLong((Row row) -> row.snapshot().total()).reversed();
+        scenarioRows.sort(slowestFirst);
+        stepRows.sort(slowestFirst);
+
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT,
+                "Load test finished after %.1fs: %d scenario runs, %s runs/s, %d failed%n", elapsedNanos / 1e9, runs,
+                throughput(runs), failures));
+        summary.append(String.format(Locale.ROOT, "%10s %10s %10s %10s %10s  %s%n", "runs/s", "p50", "p95", "p99",
+                "max", "scenario"));
+        scenarioRows.forEach(row -> summary.append(String.format(Locale.ROOT, "%10s %10s %10s %10s %10s  %s (%s)%n",
+                throughput(row.snapshot().count()), TimingFormatter.millis(row.snapshot().p50()),
+                TimingFormatter.millis(row.snapshot().p95()), TimingFormatter.millis(row.snapshot().p99()),
+                TimingFormatter.millis(row.snapshot().max()), row.name(), row.location())));
+        LOG.info(summary.toString().stripTrailing());
+
+        if (report != null) {
+            writeReport(runs, failures, scenarioRows, stepRows);
+        }
+    }
+
+    private void writeReport(long runs, long failures, List<Row> scenarioRows, List<Row> stepRows) {
+        try {
+            Path parent = report.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+                writer.write("{\n  \"durationUnit\": \"ms\"");
+                writer.write(",\n  \"workers\": " + workers);
+                writer.write(",\n  \"elapsed\": " + TimingFormatter.millis(elapsedNanos));
+                writer.write(",\n  \"runs\": " + runs);
+                writer.write(",\n  \"failures\": " + failures);
+                writer.write(",\n  \"throughput\": " + throughput(runs));
+                writer.write(",\n  \"scenarios\": [");
+                writeRows(writer, scenarioRows, true);
+                writer.write("],\n  \"steps\": [");
+                writeRows(writer, stepRows, false);
+                writer.write("]\n}\n");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the load test report to " + report, e);
+        }
+    }
+
+    private void writeRows(Writer writer, List<Row> rows, boolean withFailures) throws IOException {
+        Iterator<Row> it = rows.iterator();
+        while (it.hasNext()) {
+            Row row = it.next();
+            DurationHistogram.Snapshot snapshot = row.snapshot();
+            writer.write("\n    {\"name\": " + TimingFormatter.quote(row.name()));
+            writer.write(", \"location\": " + TimingFormatter.quote(row.location()));
+            writer.write(", \"count\": " + snapshot.count());
+            if (withFailures) {
+                writer.write(", \"failures\": " + row.failures());
+            }
+            writer.write(", \"throughput\": " + throughput(snapshot.count()));
+            writer.write(", \"total\": " + TimingFormatter.millis(snapshot.total()));
+            writer.write(", \"p50\": " + TimingFormatter.millis(snapshot.p50()));
+            writer.write(", \"p95\": " + TimingFormatter.millis(snapshot.p95()));
+            writer.write(", \"p99\": " + TimingFormatter.millis(snapshot.p99()));
+            writer.write(", \"max\": " + TimingFormatter.millis(snapshot.max()));
+            writer.write(it.hasNext() ? "}," : "}\n  ");
+        }
+    }
+
+    /**
+     * @return the runs per second over the whole load test
+     */
+    private String throughput(long count) {
+        return String.format(Locale.ROOT, "%.3f", elapsedNanos == 0 ? 0 : count * 1e9 / elapsedNanos);
+    }
+
+    private static int parse(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Failed to parse '" + name + "' with value '" + value + "'", e);
+        }
+    }
+
+    /**
+     * The results of all runs of a scenario.
+     *
+     * @param runs how often the scenario ran
+     * @param failures how often it did not pass
+     * @param firstFailure why it did not pass the first time, or {@code null} if it always passed
+     * @param p95 the 95th percentile of its durations, or {@code null} if it never ran
+     */
+    record Statistics(int runs, int failures, Throwable firstFailure, Duration p95) {
+    }
+
+    private static final class ScenarioRuns {
+
+        private final DurationHistogram durations = new DurationHistogram();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+        void failed(Throwable failure) {
+            failures.incrementAndGet();
+            firstFailure.compareAndSet(null, failure);
+        }
+    }
+
+    private record StepDefinition(String pattern, String location) {
+    }
+
+    private record Row(String name, String location, DurationHistogram.Snapshot snapshot, int failures) {
+    }
+}
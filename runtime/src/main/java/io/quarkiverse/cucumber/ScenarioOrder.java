@@ -0,0 +1,75 @@
+package io.quarkiverse.cucumber;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.options.Constants;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.order.PickleOrder;
+
+/**
+ * The order scenarios are run in.
+ * <p>
+ * Next to Cucumber's own {@code lexical}, {@code reverse}, {@code random} and {@code random:<seed>},
+ * {@value Constants#EXECUTION_ORDER_PROPERTY_NAME} accepts {@value #LONGEST_FIRST}: the scenarios that
+ * took the longest in the {@link ScenarioTimings} of a previous run go first, scenarios never timed count
+ * with the mean duration. In parallel mode this keeps a long scenario from starting last and running alone
+ * while the other workers are idle.
+ */
+final class ScenarioOrder {
+
+    static final String LONGEST_FIRST = "longest-first";
+
+    private static final Comparator<Pickle> LEXICAL = Comparator.comparing(Pickle::getUri)
+            .thenComparing(Pickle::getLocation);
+
+    private ScenarioOrder() {
+    }
+
+    /**
+     * Removes the orders Cucumber does not know from a property source, so that it can be parsed by
+     * Cucumber.
+     */
+    static Map<String, String> withoutExtensions(Map<String, String> properties) {
+        if (!LONGEST_FIRST.equals(properties.get(Constants.EXECUTION_ORDER_PROPERTY_NAME))) {
+            return properties;
+        }
+        Map<String, String> cucumberProperties = new HashMap<>(properties);
+        cucumberProperties.remove(Constants.EXECUTION_ORDER_PROPERTY_NAME);
+        return cucumberProperties;
+    }
+
+    /**
+     * Resolves the order of the scenarios of a test class.
+     *
+     * @param runtimeOptions the runtime options, holding Cucumber's own orders
+     * @param timings the historical scenario durations, for {@value #LONGEST_FIRST}
+     */
+    static PickleOrder of(RuntimeOptions runtimeOptions, ScenarioTimings timings) {
+        String order = CucumberPropertySources.get().properties().get(Constants.EXECUTION_ORDER_PROPERTY_NAME);
+        if (LONGEST_FIRST.equals(order)) {
+            return longestFirst(timings);
+        }
+        return runtimeOptions.getPickleOrder();
+    }
+
+    /**
+     * @return true if the scenarios run in the default lexical order, feature by feature
+     */
+    static boolean isLexical() {
+        String order = CucumberPropertySources.get().properties().get(Constants.EXECUTION_ORDER_PROPERTY_NAME);
+        return order == null || order.isBlank() || "lexical".equals(order.trim());
+    }
+
+    private static PickleOrder longestFirst(ScenarioTimings timings) {
+        double unknown = timings.meanMillis();
+        return pickles -> {
+            pickles.sort(Comparator.comparingDouble((Pickle pickle) -> timings.meanMillis(pickle).orElse(unknown))
+                    .reversed()
+                    .thenComparing(LEXICAL));
+            return pickles;
+        };
+    }
+}
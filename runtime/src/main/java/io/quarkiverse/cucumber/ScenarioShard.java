@@ -0,0 +1,129 @@
+package io.quarkiverse.cucumber;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.logging.Logger;
+
+import io.cucumber.core.gherkin.Pickle;
+
+/**
+ * The part of the scenarios run by one of several JVMs, e.g. one CI node of many.
+ * <p>
+ * With {@value #TOTAL_PROPERTY_NAME} shards, the shard {@value #INDEX_PROPERTY_NAME} (zero based) runs
+ * its part of the selected scenarios of every test class. The split only depends on the selected
+ * scenarios and the timing reports, so every shard computes the same split without coordination.
+ * <p>
+ * When the {@link ScenarioTimings} of a previous run are known, the scenarios are balanced by duration:
+ * the longest scenario goes to the shard with the least work so far, scenarios never timed count with the
+ * mean duration. Without any timing, every scenario goes to the shard given by the hash of its URI and
+ * line, which keeps the split stable as scenarios are added.
+ */
+final class ScenarioShard {
+
+    static final String INDEX_PROPERTY_NAME = "cucumber.execution.shard.index";
+    static final String TOTAL_PROPERTY_NAME = "cucumber.execution.shard.total";
+
+    private static final Logger LOG = Logger.getLogger(ScenarioShard.class);
+
+    private final int index;
+    private final int total;
+    private final ScenarioTimings timings;
+
+    private ScenarioShard(int index, int total, ScenarioTimings timings) {
+        this.index = index;
+        this.total = total;
+        this.timings = timings;
+    }
+
+    /**
+     * Resolves the shard of this JVM from the Cucumber property sources.
+     *
+     * @param timings the historical scenario durations to balance the shards with
+     */
+    static ScenarioShard of(ScenarioTimings timings) {
+        Map<String, String> properties = CucumberPropertySources.get().properties();
+        int total = parse(properties, TOTAL_PROPERTY_NAME, 1);
+        int index = parse(properties, INDEX_PROPERTY_NAME, 0);
+        if (total < 1 || index < 0 || index >= total) {
+            throw new IllegalArgumentException("'" + INDEX_PROPERTY_NAME + "' must be between 0 and '"
+                    + TOTAL_PROPERTY_NAME + "' - 1, but was " + index + " of " + total);
+        }
+        return new ScenarioShard(index, total, timings);
+    }
+
+    /**
+     * @return true if the scenarios are split between several shards
+     */
+    boolean isSharded() {
+        return total > 1;
+    }
+
+    /**
+     * Splits the selected scenarios of a test class between the shards.
+     *
+     * @param pickles all selected scenarios, in any order
+     * @return the filter accepting the scenarios of this shard
+     */
+    Predicate<Pickle> select(List<Pickle> pickles) {
+        if (total == 1) {
+            return pickle -> true;
+        }
+        Set<String> selected = new HashSet<>();
+        if (timings.isEmpty()) {
+            for (Pickle pickle : pickles) {
+                String location = ScenarioTimings.location(pickle);
+                if (Math.floorMod(location.hashCode(), total) == index) {
+                    selected.add(location);
+                }
+            }
+            LOG.infof("Shard %d of %d runs %d of %d scenarios", index, total, selected.size(), pickles.size());
+        } else {
+            double unknown = timings.meanMillis();
+            List<Weighted> weighted = new ArrayList<>(pickles.size());
+            for (Pickle pickle : pickles) {
+                weighted.add(new Weighted(ScenarioTimings.location(pickle),
+                        timings.meanMillis(pickle).orElse(unknown)));
+            }
+            // longest processing time first, ties broken by location so that every shard agrees
+            weighted.sort(Comparator.comparingDouble(Weighted::millis).reversed()
+                    .thenComparing(Weighted::location));
+            double[] loads = new double[total];
+            for (Weighted scenario : weighted) {
+                int shard = 0;
+                for (int i = 1; i < total; i++) {
+                    if (loads[i] < loads[shard]) {
+                        shard = i;
+                    }
+                }
+                loads[shard] += scenario.millis();
+                if (shard == index) {
+                    selected.add(scenario.location());
+                }
+            }
+            LOG.infof("Shard %d of %d runs %d of %d scenarios, expected to take %.1fs", index, total,
+                    selected.size(), pickles.size(), loads[index] / 1000);
+        }
+        return pickle -> selected.contains(ScenarioTimings.location(pickle));
+    }
+
+    private static int parse(Map<String, String> properties, String name, int defaultValue) {
+        String value = properties.get(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Failed to parse '" + name + "' with value '" + value + "'", e);
+        }
+    }
+
+    private record Weighted(String location, double millis) {
+    }
+}
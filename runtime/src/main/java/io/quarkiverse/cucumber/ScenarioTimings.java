@@ -0,0 +1,292 @@
+package io.quarkiverse.cucumber;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+import org.jboss.logging.Logger;
+
+import io.cucumber.core.gherkin.Pickle;
+
+/**
+ * Historical scenario durations, read from the reports of the {@link TimingFormatter} listed in
+ * {@value #TIMINGS_PROPERTY_NAME}.
+ * <p>
+ * A scenario is identified by the URI and line of its pickle, exactly as in the report. When several
+ * reports time the same scenario, e.g. one per test class, their counts and totals are added up.
+ */
+final class ScenarioTimings {
+
+    static final String TIMINGS_PROPERTY_NAME = "cucumber.execution.timings";
+
+    private static final Logger LOG = Logger.getLogger(ScenarioTimings.class);
+
+    private static final ScenarioTimings NONE = new ScenarioTimings(Map.of());
+
+    private final Map<String, Double> meanMillis;
+
+    private ScenarioTimings(Map<String, Double> meanMillis) {
+        this.meanMillis = meanMillis;
+    }
+
+    /**
+     * Reads the scenario durations of the reports configured in the Cucumber property sources.
+     * <p>
+     * The reports are read right away, before the plugins of a test class may overwrite them.
+     */
+    static ScenarioTimings of() {
+        String timings = CucumberPropertySources.get().properties().get(TIMINGS_PROPERTY_NAME);
+        if (timings == null || timings.isBlank()) {
+            return NONE;
+        }
+        return read(Arrays.stream(timings.split(","))
+                .map(String::trim)
+                .filter(report -> !report.isEmpty())
+                .map(Path::of)
+                .toList());
+    }
+
+    /**
+     * Reads the scenario durations of the given reports, ignoring the ones that do not exist.
+     */
+    static ScenarioTimings read(Collection<Path> reports) {
+        Map<String, long[]> counts = new HashMap<>();
+        Map<String, Double> totals = new HashMap<>();
+        for (Path report : reports) {
+            if (!Files.exists(report)) {
+                LOG.warnf("No scenario durations were recorded in %s", report);
+                continue;
+            }
+            List<Map<?, ?>> scenarios;
+            try {
+                scenarios = scenarios(Files.readString(report));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read the scenario durations from " + report, e);
+            } catch (RuntimeException e) {
+                LOG.warnf(e, "%s is not a report of the %s, its scenario durations are ignored", report,
+                        TimingFormatter.class.getSimpleName());
+                continue;
+            }
+            if (scenarios.isEmpty()) {
+                LOG.warnf("%s does not time any scenario", report);
+            }
+            for (Map<?, ?> scenario : scenarios) {
+                String location = (String) scenario.get("location");
+                counts.computeIfAbsent(location, l -> new long[1])[0] += ((Number) scenario.get("count")).longValue();
+                totals.merge(location, ((Number) scenario.get("total")).doubleValue(), Double::sum);
+            }
+        }
+        if (totals.isEmpty()) {
+            return NONE;
+        }
+        Map<String, Double> meanMillis = new HashMap<>();
+        totals.forEach((location, total) -> meanMillis.put(location, total / Math.max(1, counts.get(location)[0])));
+        return new ScenarioTimings(meanMillis);
+    }
+
+    private static List<Map<?, ?>> scenarios(String report) {
+        Map<?, ?> timings = (Map<?, ?>) new JsonParser(report).read();
+        List<?> scenarios = (List<?>) timings.get("scenarios");
+        if (scenarios == null) {
+            return List.of();
+        }
+        return scenarios.stream().<Map<?, ?>> map(Map.class::cast).toList();
+    }
+
+    boolean isEmpty() {
+        return meanMillis.isEmpty();
+    }
+
+    /**
+     * @return the mean duration of the scenario in milliseconds, if it was timed before
+     */
+    OptionalDouble meanMillis(Pickle pickle) {
+        Double mean = meanMillis.get(location(pickle));
+        return mean == null ? OptionalDouble.empty() : OptionalDouble.of(mean);
+    }
+
+    /**
+     * @return the mean duration of all timed scenarios in milliseconds, zero if none were
+     */
+    double meanMillis() {
+        return meanMillis.values().stream().mapToDouble(Double::doubleValue).average().orElse(0);
+    }
+
+    /**
+     * @return the location of a scenario as written by the {@link TimingFormatter}
+     */
+    static String location(Pickle pickle) {
+        return pickle.getUri() + ":" + pickle.getLocation().getLine();
+    }
+
+    /**
+     * Reads the JSON written by the {@link TimingFormatter} into maps, lists, strings, numbers and booleans,
+     * which is all a timing report needs.
+     */
+    static final class JsonParser {
+
+        private final String json;
+        private int position;
+
+        JsonParser(String json) {
+            this.json = json;
+        }
+
+        /**
+         * @return the single value of the JSON document
+         * @throws IllegalArgumentException if the document is not valid JSON
+         */
+        Object read() {
+            Object value = value();
+            skipWhitespace();
+            if (position < json.length()) {
+                throw error("end of input");
+            }
+            return value;
+        }
+
+        private Object value() {
+            skipWhitespace();
+            if (position >= json.length()) {
+                throw error("a value");
+            }
+            char c = json.charAt(position);
+            return switch (c) {
+                case '{' -> object();
+                case '[' -> array();
+                case '"' -> string();
+                case 't' -> literal("true", Boolean.TRUE);
+                case 'f' -> literal("false", Boolean.FALSE);
+                case 'n' -> literal("null", null);
+                default -> number();
+            };
+        }
+
+        private Map<String, Object> object() {
+            Map<String, Object> object = new LinkedHashMap<>();
+            position++;
+            skipWhitespace();
+            if (consume('}')) {
+                return object;
+            }
+            do {
+                skipWhitespace();
+                if (position >= json.length() || json.charAt(position) != '"') {
+                    throw error("a name");
+                }
+                String name = string();
+                skipWhitespace();
+                expect(':');
+                object.put(name, value());
+                skipWhitespace();
+            } while (consume(','));
+            expect('}');
+            return object;
+        }
+
+        private List<Object> array() {
+            List<Object> array = new ArrayList<>();
+            position++;
+            skipWhitespace();
+            if (consume(']')) {
+                return array;
+            }
+            do {
+                array.add(value());
+                skipWhitespace();
+            } while (consume(','));
+            expect(']');
+            return array;
+        }
+
+        private String string() {
+            StringBuilder sb = new StringBuilder();
+            position++;
+            while (position < json.length()) {
+                char c = json.charAt(position++);
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                if (position >= json.length()) {
+                    break;
+                }
+                char escaped = json.charAt(position++);
+                switch (escaped) {
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'u' -> {
+                        if (position + 4 > json.length()) {
+                            throw error("four hex digits");
+                        }
+                        sb.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                        position += 4;
+                    }
+                    default -> sb.append(escaped);
+                }
+            }
+            throw error("the end of the string");
+        }
+
+        private Number number() {
+            int start = position;
+            while (position < json.length() && "+-0123456789.eE".indexOf(json.charAt(position)) >= 0) {
+                position++;
+            }
+            String number = json.substring(start, position);
+            try {
+                return number.matches("-?\\d+") ? (Number) Long.valueOf(number) : (Number) Double.valueOf(number);
+            } catch (NumberFormatException e) {
+                position = start;
+                throw error("a value");
+            }
+        }
+
+        private Object literal(String literal, Object value) {
+            if (!json.startsWith(literal, position)) {
+                throw error(literal);
+            }
+            position += literal.length();
+            return value;
+        }
+
+        private boolean consume(char c) {
+            if (position < json.length() && json.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!consume(c)) {
+                throw error("'" + c + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String expected) {
+            return new IllegalArgumentException("Expected " + expected + " at offset " + position);
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package io.quarkiverse.cucumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.jboss.logging.Logger;
+
+import io.cucumber.core.feature.FeatureWithLines;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.gherkin.Step;
+import io.cucumber.cucumberexpressions.Expression;
+import io.cucumber.cucumberexpressions.ExpressionFactory;
+import io.cucumber.cucumberexpressions.ParameterType;
+import io.cucumber.cucumberexpressions.ParameterTypeRegistry;
+import io.cucumber.tagexpressions.TagExpressionParser;
+
+/**
+ * Index of the scenarios affected by a change of a class, built at build time.
+ * <p>
+ * Every glue class is mapped to the pickles that use it: the pickles with a step matching one of its step
+ * definitions, and the pickles selected by the tag expressions of its hooks. Glue that can affect any
+ * pickle, such as parameter types or before all hooks, is mapped to all pickles. Every class a glue class
+ * depends on, through CDI injection or inheritance, is mapped to that glue class. Classes are identified by
+ * the name of their top level class, so a change to a source file affects all classes declared in it.
+ * <p>
+ * A changed class the index does not know about may still be used by any scenario, e.g. application code
+ * called through an HTTP endpoint, so it affects all pickles.
+ */
+public final class TestImpactIndex {
+
+    /**
+     * Name of the generated class path resource holding the index.
+     */
+    public static final String RESOURCE_NAME = "META-INF/quarkus-cucumber/test-impact-index.bin";
+
+    private static final Logger LOG = Logger.getLogger(TestImpactIndex.class);
+
+    private static final int MAGIC = 0x43554b49;
+    private static final int VERSION = 1;
+
+    private final List<URI> features;
+    private final Map<String, Pickles> picklesByGlue;
+    private final Map<String, Set<String>> gluesByClass;
+
+    private TestImpactIndex(List<URI> features, Map<String, Pickles> picklesByGlue, Map<String, Set<String>> gluesByClass) {
+        this.features = features;
+        this.picklesByGlue = picklesByGlue;
+        this.gluesByClass = gluesByClass;
+    }
+
+    /**
+     * Loads the index generated at build time.
+     *
+     * @param classLoader the class loader to look up {@link #RESOURCE_NAME} with
+     * @return the index, or empty if it was not generated
+     */
+    public static Optional<TestImpactIndex> load(ClassLoader classLoader) {
+        try (InputStream in = classLoader.getResourceAsStream(RESOURCE_NAME)) {
+            if (in == null) {
+                return Optional.empty();
+            }
+            return Optional.of(read(new DataInputStream(in)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + RESOURCE_NAME, e);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Finds the pickles affected by a change.
+     *
+     * @param changedClasses names of the changed classes, nested classes included
+     * @param changedFeatures class path resource names of the changed feature files
+     * @return the affected pickles, or empty if every pickle is affected
+     */
+    public Optional<List<FeatureWithLines>> impacted(Collection<String> changedClasses, Collection<String> changedFeatures) {
+        Map<URI, SortedSet<Integer>> lines = new TreeMap<>();
+        for (String changedClass : changedClasses) {
+            Set<String> glues = gluesByClass.get(topLevelName(changedClass));
+            if (glues == null) {
+                LOG.infof("%s is neither glue nor a dependency of glue, it may affect any scenario", changedClass);
+                return Optional.empty();
+            }
+            for (String glue : glues) {
+                Pickles pickles = picklesByGlue.get(glue);
+                if (pickles.all) {
+                    LOG.infof("%s affects the glue of all scenarios in %s", changedClass, glue);
+                    return Optional.empty();
+                }
+                pickles.lines.forEach((uri, featureLines) -> lines.computeIfAbsent(uri, u -> new TreeSet<>())
+                        .addAll(featureLines));
+            }
+        }
+        Set<URI> changedUris = new HashSet<>();
+        for (String changedFeature : changedFeatures) {
+            changedUris.add(PickleIndex.classpathUri(changedFeature));
+        }
+        List<FeatureWithLines> impacted = new ArrayList<>();
+        for (URI feature : features) {
+            if (changedUris.contains(feature)) {
+                // every pickle of a changed feature file
+                impacted.add(FeatureWithLines.create(feature, List.of()));
+            } else if (lines.containsKey(feature)) {
+                impacted.add(FeatureWithLines.create(feature, lines.get(feature)));
+            }
+        }
+        return Optional.of(impacted);
+    }
+
+    /**
+     * @return the class path resource names of all indexed feature files
+     */
+    public List<String> getFeatureResourceNames() {
+        return features.stream().map(URI::getSchemeSpecificPart).toList();
+    }
+
+    static String topLevelName(String className) {
+        int nested = className.indexOf('$');
+        return nested < 0 ? className : className.substring(0, nested);
+    }
+
+    /**
+     * The pickles using a glue class.
+     */
+    private static final class Pickles {
+
+        private boolean all;
+        private final Map<URI, SortedSet<Integer>> lines = new TreeMap<>();
+
+        void add(Pickle pickle) {
+            lines.computeIfAbsent(pickle.getUri(), uri -> new TreeSet<>()).add(pickle.getLocation().getLine());
+        }
+    }
+
+    public static final class Builder {
+
+        private final List<URI> features = new ArrayList<>();
+        private final List<Pickle> pickles = new ArrayList<>();
+        private final Map<String, List<String>> parameterTypes = new LinkedHashMap<>();
+        private final Map<String, List<String>> stepDefinitions = new LinkedHashMap<>();
+        private final Map<String, List<String>> hooks = new LinkedHashMap<>();
+        private final Set<String> globalGlue = new HashSet<>();
+        private final Map<String, Set<String>> dependencies = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds the pickles of a feature file.
+         *
+         * @param resourceName the class path resource name of the feature file
+         * @param pickles the pickles of the feature file
+         * @return this builder
+         */
+        public Builder addFeature(String resourceName, List<Pickle> pickles) {
+            features.add(PickleIndex.classpathUri(resourceName));
+            this.pickles.addAll(pickles);
+            return this;
+        }
+
+        /**
+         * Adds a custom parameter type, so the step definitions using it can be matched.
+         *
+         * @param name the name of the parameter type
+         * @param regexps the regular expressions of the parameter type
+         * @return this builder
+         */
+        public Builder addParameterType(String name, List<String> regexps) {
+            parameterTypes.put(name, regexps);
+            return this;
+        }
+
+        /**
+         * Adds a step definition.
+         *
+         * @param glueClass the class declaring the step definition
+         * @param expression the cucumber expression or regular expression of the step definition
+         * @return this builder
+         */
+        public Builder addStepDefinition(String glueClass, String expression) {
+            stepDefinitions.computeIfAbsent(topLevelName(glueClass), c -> new ArrayList<>()).add(expression);
+            return this;
+        }
+
+        /**
+         * Adds a scenario or step hook.
+         *
+         * @param glueClass the class declaring the hook
+         * @param tagExpression the tag expression of the hook, empty for a hook of every pickle
+         * @return this builder
+         */
+        public Builder addHook(String glueClass, String tagExpression) {
+            hooks.computeIfAbsent(topLevelName(glueClass), c -> new ArrayList<>()).add(tagExpression);
+            return this;
+        }
+
+        /**
+         * Adds glue that can affect any pickle, e.g. a parameter type or a before all hook.
+         *
+         * @param glueClass the class declaring the glue
+         * @return this builder
+         */
+        public Builder addGlobalGlue(String glueClass) {
+            globalGlue.add(topLevelName(glueClass));
+            return this;
+        }
+
+        /**
+         * Adds classes a glue class depends on.
+         *
+         * @param glueClass the glue class
+         * @param classes the classes the glue class depends on
+         * @return this builder
+         */
+        public Builder addDependencies(String glueClass, Collection<String> classes) {
+            Set<String> dependencies = this.dependencies.computeIfAbsent(topLevelName(glueClass), c -> new HashSet<>());
+            classes.forEach(dependency -> dependencies.add(topLevelName(dependency)));
+            return this;
+        }
+
+        /**
+         * @return the serialized index
+         */
+        public byte[] build() {
+            Map<String, Pickles> picklesByGlue = new TreeMap<>();
+            Set<String> glues = new HashSet<>(globalGlue);
+            glues.addAll(stepDefinitions.keySet());
+            glues.addAll(hooks.keySet());
+            for (String glue : glues) {
+                picklesByGlue.put(glue, new Pickles());
+            }
+            globalGlue.forEach(glue -> picklesByGlue.get(glue).all = true);
+            matchStepDefinitions(picklesByGlue);
+            matchHooks(picklesByGlue);
+
+            Map<String, Set<String>> gluesByClass = new TreeMap<>();
+            for (String glue : glues) {
+                gluesByClass.computeIfAbsent(glue, c -> new LinkedHashSet<>()).add(glue);
+                for (String dependency : dependencies.getOrDefault(glue, Set.of())) {
+                    gluesByClass.computeIfAbsent(dependency, c -> new LinkedHashSet<>()).add(glue);
+                }
+            }
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                write(out, features, picklesByGlue, gluesByClass);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return bytes.toByteArray();
+        }
+
+        private void matchStepDefinitions(Map<String, Pickles> picklesByGlue) {
+            // the same step text is usually used by many pickles, it only has to be matched once
+            Map<String, Map<String, List<Pickle>>> picklesByText = new HashMap<>();
+            for (Pickle pickle : pickles) {
+                for (Step step : pickle.getSteps()) {
+                    picklesByText.computeIfAbsent(pickle.getLanguage(), language -> new HashMap<>())
+                            .computeIfAbsent(step.getText(), text -> new ArrayList<>())
+                            .add(pickle);
+                }
+            }
+            picklesByText.forEach((language, texts) -> {
+                ExpressionFactory expressionFactory = new ExpressionFactory(parameterTypeRegistry(language));
+                stepDefinitions.forEach((glue, expressions) -> {
+                    Pickles glued = picklesByGlue.get(glue);
+                    for (String source : expressions) {
+                        Expression expression;
+                        try {
+                            expression = expressionFactory.createExpression(source);
+                        } catch (RuntimeException e) {
+                            // e.g. a parameter type defined in a way the index does not know about
+                            glued.all = true;
+                            return;
+                        }
+                        texts.forEach((text, pickles) -> {
+                            if (expression.match(text) != null) {
+                                pickles.forEach(glued::add);
+                            }
+                        });
+                    }
+                });
+            });
+        }
+
+        private void matchHooks(Map<String, Pickles> picklesByGlue) {
+            hooks.forEach((glue, tagExpressions) -> {
+                Pickles glued = picklesByGlue.get(glue);
+                for (String tagExpression : tagExpressions) {
+                    io.cucumber.tagexpressions.Expression expression;
+                    try {
+                        expression = TagExpressionParser.parse(tagExpression == null ? "" : tagExpression);
+                    } catch (RuntimeException e) {
+                        glued.all = true;
+                        return;
+                    }
+                    pickles.stream().filter(pickle -> expression.evaluate(pickle.getTags())).forEach(glued::add);
+                }
+            });
+        }
+
+        private ParameterTypeRegistry parameterTypeRegistry(String language) {
+            ParameterTypeRegistry registry = new ParameterTypeRegistry(Locale.forLanguageTag(language));
+            parameterTypes.forEach((name, regexps) -> {
+                try {
+                    registry.defineParameterType(new ParameterType<>(name, regexps, Object.class,
+                            (String[] args) -> null, false, false));
+                } catch (RuntimeException e) {
+                    // a step definition using it can not be matched, and then affects all pickles
+                }
+            });
+            return registry;
+        }
+    }
+
+    private static void write(DataOutputStream out, List<URI> features, Map<String, Pickles> picklesByGlue,
+            Map<String, Set<String>> gluesByClass) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        Map<URI, Integer> featureIds = new HashMap<>();
+        out.writeInt(features.size());
+        for (URI feature : features) {
+            featureIds.put(feature, featureIds.size());
+            out.writeUTF(feature.getSchemeSpecificPart());
+        }
+        out.writeInt(picklesByGlue.size());
+        for (Map.Entry<String, Pickles> glue : picklesByGlue.entrySet()) {
+            out.writeUTF(glue.getKey());
+            out.writeBoolean(glue.getValue().all);
+            out.writeInt(glue.getValue().lines.size());
+            for (Map.Entry<URI, SortedSet<Integer>> feature : glue.getValue().lines.entrySet()) {
+                out.writeInt(featureIds.get(feature.getKey()));
+                out.writeInt(feature.getValue().size());
+                for (int line : feature.getValue()) {
+                    out.writeInt(line);
+                }
+            }
+        }
+        out.writeInt(gluesByClass.size());
+        for (Map.Entry<String, Set<String>> dependency : gluesByClass.entrySet()) {
+            out.writeUTF(dependency.getKey());
+            out.writeInt(dependency.getValue().size());
+            for (String glue : dependency.getValue()) {
+                out.writeUTF(glue);
+            }
+        }
+    }
+
+    private static TestImpactIndex read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException(RESOURCE_NAME + " was written by an incompatible version");
+        }
+        List<URI> features = new ArrayList<>();
+        int featureCount = in.readInt();
+        for (int i = 0; i < featureCount; i++) {
+            features.add(PickleIndex.classpathUri(in.readUTF()));
+        }
+        Map<String, Pickles> picklesByGlue = new HashMap<>();
+        int glueCount = in.readInt();
+        for (int i = 0; i < glueCount; i++) {
+            String glue = in.readUTF();
+            Pickles pickles = new Pickles();
+            pickles.all = in.readBoolean();
+            int lineCount = in.readInt();
+            for (int j = 0; j < lineCount; j++) {
+                URI feature = features.get(in.readInt());
+                SortedSet<Integer> lines = new TreeSet<>();
+                int count = in.readInt();
+                for (int k = 0; k < count; k++) {
+                    lines.add(in.readInt());
+                }
+                pickles.lines.put(feature, lines);
+            }
+            picklesByGlue.put(glue, pickles);
+        }
+        Map<String, Set<String>> gluesByClass = new HashMap<>();
+        int classCount = in.readInt();
+        for (int i = 0; i < classCount; i++) {
+            String className = in.readUTF();
+            Set<String> glues = new LinkedHashSet<>();
+            int count = in.readInt();
+            for (int j = 0; j < count; j++) {
+                glues.add(in.readUTF());
+            }
+            gluesByClass.put(className, glues);
+        }
+        return new TestImpactIndex(List.copyOf(features), picklesByGlue, gluesByClass);
+    }
+}
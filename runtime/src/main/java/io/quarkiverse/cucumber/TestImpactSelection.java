@@ -0,0 +1,159 @@
+package io.quarkiverse.cucumber;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.jboss.logging.Logger;
+
+import io.cucumber.core.feature.FeatureWithLines;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.options.RuntimeOptionsBuilder;
+import io.cucumber.core.resource.ClasspathSupport;
+
+/**
+ * Selects the scenarios affected by a set of changed classes and feature files.
+ * <p>
+ * The changes are read from {@value #CHANGED_PROPERTY_NAME}: class names, source files such as
+ * {@code src/main/java/com/example/Cart.java} or feature files, separated by commas or white space. A value
+ * starting with {@code @} names a file to read them from, e.g. the output of {@code git diff --name-only}.
+ * Any other file listed with its path, such as {@code src/main/resources/application.properties}, may affect
+ * any scenario, so all of them run.
+ * The affected scenarios are looked up in the {@link TestImpactIndex}, the tag and name filters still apply.
+ */
+final class TestImpactSelection {
+
+    static final String CHANGED_PROPERTY_NAME = "cucumber.execution.impact.changed";
+
+    private static final Logger LOG = Logger.getLogger(TestImpactSelection.class);
+
+    private static final Pattern SEPARATOR = Pattern.compile("[,\\s]+");
+    private static final Pattern SOURCE_ROOT = Pattern.compile("(^|.*/)(java|kotlin)/");
+
+    private TestImpactSelection() {
+    }
+
+    /**
+     * Restricts the runtime options to the scenarios affected by the changes, if any are given.
+     */
+    static RuntimeOptions select(RuntimeOptions runtimeOptions, ClassLoader classLoader) {
+        String changed = CucumberPropertySources.get().properties().get(CHANGED_PROPERTY_NAME);
+        if (changed == null || changed.isBlank()) {
+            return runtimeOptions;
+        }
+        Optional<TestImpactIndex> index = TestImpactIndex.load(classLoader);
+        if (index.isEmpty()) {
+            LOG.warnf("The test impact index was not built, all scenarios run despite '%s'", CHANGED_PROPERTY_NAME);
+            return runtimeOptions;
+        }
+        List<String> featurePaths = new ArrayList<>();
+        for (URI featurePath : runtimeOptions.getFeaturePaths()) {
+            if (!ClasspathSupport.CLASSPATH_SCHEME.equals(featurePath.getScheme())) {
+                LOG.warnf("Scenarios can only be selected from class path features, all scenarios in %s run",
+                        featurePath);
+                return runtimeOptions;
+            }
+            featurePaths.add(resourceName(featurePath));
+        }
+
+        List<String> changes = changes(changed);
+        if (changes.isEmpty()) {
+            LOG.infof("Nothing changed according to '%s', no scenarios run", CHANGED_PROPERTY_NAME);
+        }
+        Set<String> changedClasses = new LinkedHashSet<>();
+        Set<String> changedFeatures = new LinkedHashSet<>();
+        for (String change : changes) {
+            if (change.endsWith(".feature")) {
+                String path = change.replace('\\', '/');
+                index.get().getFeatureResourceNames().stream()
+                        .filter(resourceName -> path.equals(resourceName) || path.endsWith("/" + resourceName))
+                        .forEach(changedFeatures::add);
+            } else if (change.endsWith(".java") || change.endsWith(".kt")) {
+                String path = change.replace('\\', '/');
+                path = SOURCE_ROOT.matcher(path.substring(0, path.lastIndexOf('.'))).replaceFirst("");
+                changedClasses.add(path.replace('/', '.'));
+            } else if (change.indexOf('/') < 0 && change.indexOf('\\') < 0) {
+                changedClasses.add(change);
+            } else {
+                // configuration, migrations, templates and the like can change what any scenario does
+                LOG.infof("%s is neither a source nor a feature file, it may affect any scenario", change);
+                LOG.infof("The changes affect all scenarios");
+                return runtimeOptions;
+            }
+        }
+
+        Optional<List<FeatureWithLines>> impacted = index.get().impacted(changedClasses, changedFeatures);
+        if (impacted.isEmpty()) {
+            LOG.infof("The changes affect all scenarios");
+            return runtimeOptions;
+        }
+        Map<URI, Set<Integer>> lineFilters = runtimeOptions.getLineFilters();
+        List<FeatureWithLines> selected = new ArrayList<>();
+        for (FeatureWithLines feature : impacted.get()) {
+            if (!isInFeaturePaths(resourceName(feature.uri()), featurePaths)) {
+                continue;
+            }
+            Set<Integer> lines = lineFilters.get(feature.uri());
+            if (lines == null) {
+                selected.add(feature);
+            } else if (feature.lines().isEmpty()) {
+                selected.add(FeatureWithLines.create(feature.uri(), lines));
+            } else {
+                // keep the scenarios already selected by line, e.g. by a rerun file
+                Set<Integer> both = new TreeSet<>(feature.lines());
+                both.retainAll(lines);
+                if (!both.isEmpty()) {
+                    selected.add(FeatureWithLines.create(feature.uri(), both));
+                }
+            }
+        }
+        LOG.infof("The changes affect %d feature files", selected.size());
+
+        RuntimeOptionsBuilder builder = new RuntimeOptionsBuilder().addRerun(selected);
+        // like a rerun file, the selection would replace the tag and name filters otherwise
+        runtimeOptions.getTagExpressions().forEach(builder::addTagFilter);
+        runtimeOptions.getNameFilters().forEach(builder::addNameFilter);
+        return builder.build(runtimeOptions);
+    }
+
+    private static List<String> changes(String value) {
+        List<String> changes = new ArrayList<>();
+        for (String change : SEPARATOR.split(value.trim())) {
+            if (change.startsWith("@")) {
+                try {
+                    changes.addAll(changes(Files.readString(Path.of(change.substring(1)))));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read the changes from " + change.substring(1), e);
+                }
+            } else if (!change.isEmpty()) {
+                changes.add(change);
+            }
+        }
+        return changes;
+    }
+
+    private static String resourceName(URI uri) {
+        String resourceName = uri.getSchemeSpecificPart();
+        return resourceName.startsWith("/") ? resourceName.substring(1) : resourceName;
+    }
+
+    private static boolean isInFeaturePaths(String resourceName, List<String> featurePaths) {
+        for (String featurePath : featurePaths) {
+            if (featurePath.isEmpty() || resourceName.equals(featurePath)
+                    || resourceName.startsWith(featurePath.endsWith("/") ? featurePath : featurePath + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
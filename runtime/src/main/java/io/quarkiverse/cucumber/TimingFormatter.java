@@ -0,0 +1,169 @@
+package io.quarkiverse.cucumber;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+
+/**
+ * Plugin collecting duration histograms per step definition, hook, scenario and feature.
+ * <p>
+ * Once the test run has finished, the count, total, p50, p95, p99 and max duration of every step
+ * definition pattern, hook, scenario and feature are written as JSON, each group sorted by total
+ * duration, slowest first. Durations are in milliseconds. A feature is timed by the durations of its
+ * scenarios.
+ * <p>
+ * Like any other plugin, it is registered with the output file it writes to:
+ *
+ * <pre>
+ * &#64;CucumberOptions(plugin = "io.quarkiverse.cucumber.TimingFormatter:target/cucumber-timing.json")
+ * public class MyTest extends CucumberQuarkusTest {
+ * }
+ * </pre>
+ */
+public class TimingFormatter implements ConcurrentEventListener {
+
+    private final OutputStream out;
+
+    private final ConcurrentMap<Timed, DurationHistogram> steps = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Timed, DurationHistogram> hooks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Timed, DurationHistogram> scenarios = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Timed, DurationHistogram> features = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a formatter writing its report to the given stream, which is closed once written.
+     *
+     * @param out the stream to write the report to
+     */
+    public TimingFormatter(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> writeReport());
+    }
+
+    private void onTestStepFinished(TestStepFinished event) {
+        Duration duration = event.getResult().getDuration();
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            // undefined and ambiguous steps have no step definition to time
+            if (step.getPattern() != null) {
+                record(steps, new Timed(step.getPattern(), step.getCodeLocation()), duration);
+            }
+        } else if (event.getTestStep() instanceof HookTestStep hook) {
+            record(hooks, new Timed(hook.getHookType().name(), hook.getCodeLocation()), duration);
+        }
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        TestCase testCase = event.getTestCase();
+        Duration duration = event.getResult().getDuration();
+        record(scenarios, new Timed(testCase.getName(), testCase.getUri() + ":" + testCase.getLocation().getLine()),
+                duration);
+        record(features, new Timed(null, testCase.getUri().toString()), duration);
+    }
+
+    private static void record(ConcurrentMap<Timed, DurationHistogram> histograms, Timed timed, Duration duration) {
+        histograms.computeIfAbsent(timed, t -> new DurationHistogram()).record(duration.toNanos());
+    }
+
+    private void writeReport() {
+        Map<String, Map<Timed, DurationHistogram>> groups = new LinkedHashMap<>();
+        groups.put("steps", steps);
+        groups.put("hooks", hooks);
+        groups.put("scenarios", scenarios);
+        groups.put("features", features);
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            writer.write("{\n  \"durationUnit\": \"ms\"");
+            for (Map.Entry<String, Map<Timed, DurationHistogram>> group : groups.entrySet()) {
+                writer.write(",\n  \"" + group.getKey() + "\": [");
+                writeGroup(writer, group.getValue());
+                writer.write("]");
+            }
+            writer.write("\n}\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the timing report", e);
+        }
+    }
+
+    private static void writeGroup(Writer writer, Map<Timed, DurationHistogram> histograms) throws IOException {
+        List<Map.Entry<Timed, DurationHistogram.Snapshot>> entries = histograms.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), e.getValue().snapshot()))
+                .sorted(Comparator.comparingLong((Map.Entry<Timed, DurationHistogram.Snapshot> e) -> e.getValue().total())
+                        .reversed())
+                .toList();
+        Iterator<Map.Entry<Timed, DurationHistogram.Snapshot>> it = entries.iterator();
+        while (it.hasNext()) {
+            Map.Entry<Timed, DurationHistogram.Snapshot> entry = it.next();
+            Timed timed = entry.getKey();
+            DurationHistogram.Snapshot snapshot = entry.getValue();
+            writer.write("\n    {");
+            if (timed.name() != null) {
+                writer.write("\"name\": " + quote(timed.name()) + ", ");
+            }
+            writer.write("\"location\": " + quote(timed.location()));
+            writer.write(", \"count\": " + snapshot.count());
+            writer.write(", \"total\": " + millis(snapshot.total()));
+            writer.write(", \"p50\": " + millis(snapshot.p50()));
+            writer.write(", \"p95\": " + millis(snapshot.p95()));
+            writer.write(", \"p99\": " + millis(snapshot.p99()));
+            writer.write(", \"max\": " + millis(snapshot.max()));
+            writer.write(it.hasNext() ? "}," : "}\n  ");
+        }
+    }
+
+    static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    static String quote(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * What is timed, e.g. a step definition pattern and the location of the step definition.
+     */
+    private record Timed(String name, String location) {
+    }
+}